@@ -0,0 +1,138 @@
+package com.comp2042;
+
+import com.comp2042.game.control.Board;
+import com.comp2042.game.control.GameLoop;
+import com.comp2042.game.control.HighScoreManager;
+import com.comp2042.game.ui.RendererType;
+import javafx.application.Application;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.text.Font;
+import javafx.stage.Stage;
+
+public class Main extends Application {
+
+    private static Stage primaryStage;
+    private static RendererType rendererType = RendererType.NODES;
+    private static int previewDepth = Board.DEFAULT_PREVIEW_DEPTH;
+    private static String theme;
+    private static boolean dropTrailEnabled = true;
+    private static int dasMillis = GameLoop.DEFAULT_DAS_MILLIS;
+    private static int arrMillis = GameLoop.DEFAULT_ARR_MILLIS;
+    private static double softDropFactor = GameLoop.DEFAULT_SOFT_DROP_FACTOR;
+    private static boolean logicThreaded;
+
+    @Override
+    public void start(Stage stage) throws Exception {
+        primaryStage = stage;
+        String renderer = getParameters().getNamed().get("renderer");
+        rendererType = RendererType.parse(renderer != null ? renderer : System.getProperty("tetris.renderer"));
+        String preview = getParameters().getNamed().get("preview");
+        previewDepth = parsePreviewDepth(preview != null ? preview : System.getProperty("tetris.preview"));
+        theme = getParameters().getNamed().getOrDefault("theme", System.getProperty("tetris.theme"));
+        String trail = getParameters().getNamed().getOrDefault("trail", System.getProperty("tetris.trail", "on"));
+        dropTrailEnabled = !trail.equalsIgnoreCase("off") && !trail.equalsIgnoreCase("false");
+        dasMillis = (int) parseHandling("das", GameLoop.DEFAULT_DAS_MILLIS);
+        arrMillis = (int) parseHandling("arr", GameLoop.DEFAULT_ARR_MILLIS);
+        softDropFactor = parseHandling("sdf", GameLoop.DEFAULT_SOFT_DROP_FACTOR);
+        String logic = getParameters().getNamed().getOrDefault("logic", System.getProperty("tetris.logic", "fx"));
+        logicThreaded = logic.equalsIgnoreCase("thread");
+
+        // Read the high score and index the leaderboard while the menu is up
+        HighScoreManager.load();
+        HighScoreManager.getLeaderboard();
+
+        Font.loadFont(getClass().getClassLoader().getResource("determination.ttf").toExternalForm(), 38);
+
+        Parent root = FXMLLoader.load(getClass().getResource("/mainMenu.fxml"));
+
+        primaryStage.setTitle("TetrisJFX");
+        Scene scene = new Scene(root, 620, 600);
+        primaryStage.setScene(scene);
+        primaryStage.show();
+    }
+
+    @Override
+    public void stop() {
+        HighScoreManager.shutdown();
+    }
+
+    public static Stage getPrimaryStage() {
+        return primaryStage;
+    }
+
+    public static RendererType getRendererType() {
+        return rendererType;
+    }
+
+    // Upcoming bricks shown in the Next panel, set with --preview=N (or -Dtetris.preview=N)
+    public static int getPreviewDepth() {
+        return previewDepth;
+    }
+
+    // Theme file or bundled theme name from --theme= (or -Dtetris.theme=); null for the built-in colours
+    public static String getTheme() {
+        return theme;
+    }
+
+    // Hard drops leave a fading trail unless started with --trail=off (or -Dtetris.trail=off)
+    public static boolean isDropTrailEnabled() {
+        return dropTrailEnabled;
+    }
+
+    // Auto-shift delay and repeat in ms and the soft drop factor, from --das= --arr= --sdf= (or -Dtetris.das= ...)
+    public static int getDasMillis() {
+        return dasMillis;
+    }
+
+    public static int getArrMillis() {
+        return arrMillis;
+    }
+
+    public static double getSoftDropFactor() {
+        return softDropFactor;
+    }
+
+    // --logic=thread (or -Dtetris.logic=thread) ticks the game on its own thread instead of the FX pulse
+    public static boolean isLogicThreaded() {
+        return logicThreaded;
+    }
+
+    private double parseHandling(String name, double defaultValue) {
+        String value = getParameters().getNamed().getOrDefault(name, System.getProperty("tetris." + name));
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            double parsed = Double.parseDouble(value.trim());
+            if (parsed >= 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        System.err.println("Invalid --" + name + "=" + value + ", using " + defaultValue);
+        return defaultValue;
+    }
+
+    private static int parsePreviewDepth(String value) {
+        if (value == null) {
+            return Board.DEFAULT_PREVIEW_DEPTH;
+        }
+        try {
+            int depth = Integer.parseInt(value.trim());
+            if (depth >= 1 && depth <= Board.MAX_PREVIEW_DEPTH) {
+                return depth;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        System.err.println("Preview depth must be 1 to " + Board.MAX_PREVIEW_DEPTH + ", using " + Board.DEFAULT_PREVIEW_DEPTH);
+        return Board.DEFAULT_PREVIEW_DEPTH;
+    }
+
+    public static void main(String[] args) {
+        launch(args);
+    }
+}
@@ -0,0 +1,216 @@
+package com.comp2042.game.control;
+
+import com.comp2042.Main;
+import com.comp2042.game.event.DownData;
+import com.comp2042.game.event.GameListener;
+import com.comp2042.game.ui.Score;
+import com.comp2042.game.ui.ViewData;
+import com.comp2042.game.event.InputEventListener;
+import com.comp2042.game.event.MoveEvent;
+import com.comp2042.game.event.GameMode;
+import com.comp2042.logic.bot.PlacementBot;
+import com.comp2042.logic.leaderboard.GameRecord;
+import com.comp2042.logic.leaderboard.Standing;
+import com.comp2042.logic.replay.Replay;
+import com.comp2042.logic.replay.ReplayPlayer;
+import com.comp2042.logic.replay.ReplayRecorder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+public class GameController implements InputEventListener, GameListener {
+
+    private static final String REPLAY_FILE = "last_game.replay";
+    private static final Consumer<Standing> NO_STANDING = standing -> {
+    };
+
+    private final GameMode mode;
+    private final GuiController viewGuiController;
+    private final Score score = new Score();
+    private final PlacementBot bot = new PlacementBot();
+    private final SplittableRandom seeds = new SplittableRandom();
+    private GameEngine engine;
+    private ReplayRecorder recorder;
+    private Replay lastReplay;
+    private long seed;
+    private long startNanos;
+
+    private GameController(GuiController c, GameMode mode) {
+        this.mode = mode;
+        viewGuiController = c;
+        startEngine(seeds.nextLong(), null);
+    }
+
+    // Callbacks are wired once the controller is fully built, so none can see it half-initialised
+    public static GameController start(GuiController c, GameMode mode) {
+        GameController controller = new GameController(c, mode);
+        controller.wire();
+        return controller;
+    }
+
+    private void wire() {
+        engine.setListener(this);
+        viewGuiController.setEventListener(this);
+        viewGuiController.setAutoPlayer(this::playBotMove);
+        viewGuiController.setReplaySource(this::startReplay);
+        viewGuiController.setQuitHandler(this::endZenGame);
+        viewGuiController.initGameView(engine.getBoard().getBoardMatrix(), engine.getViewData(), mode);
+        viewGuiController.bindScore(score.scoreProperty());
+        viewGuiController.bindLines(score.linesClearedProperty());
+    }
+
+    private void startEngine(long seed, GameListener listener) {
+        engine = ReplayPlayer.createEngine(mode, seed, listener);
+        engine.getBoard().setPreviewDepth(Main.getPreviewDepth());
+        this.seed = seed;
+        startNanos = System.nanoTime();
+        recorder = new ReplayRecorder(mode, seed);
+    }
+
+    // Restarts the board from the last finished game's seed (or the current game's) and stops recording.
+    private Replay startReplay() {
+        endZenGame();
+        Replay replay = lastReplay != null ? lastReplay : recorder != null
+                ? recorder.toReplay(viewGuiController.getInputTick()) : null;
+        if (replay != null) {
+            recorder = null;
+            engine = ReplayPlayer.createEngine(replay.getMode(), replay.getSeed(), this);
+            engine.getBoard().setPreviewDepth(Main.getPreviewDepth());
+        }
+        return replay;
+    }
+
+    // Gravity is left out: playback re-derives it from the tick count
+    private void record(MoveEvent event) {
+        if (recorder != null && event != GameLoop.GRAVITY) {
+            recorder.record(event.getEventType(), event.getEventSource(), viewGuiController.getInputTick());
+        }
+    }
+
+    // Written on the high-score writer thread, so game over never waits for the disk
+    private static void saveReplay(Replay replay) {
+        HighScoreManager.writeBehind(() -> {
+            try (OutputStream out = Files.newOutputStream(Paths.get(REPLAY_FILE))) {
+                replay.write(out);
+            } catch (IOException e) {
+                System.err.println("Error saving replay: " + e.getMessage());
+            }
+        });
+    }
+
+    private void playBotMove() {
+        bot.play(engine.getBoard(), this);
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return engine.getViewData();
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        record(event);
+        return engine.onDownEvent(event);
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        record(event);
+        return engine.onHardDropEvent(event);
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        record(event);
+        return engine.onLeftEvent(event);
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        record(event);
+        return engine.onRightEvent(event);
+    }
+
+    // Recorded as one LEFT/RIGHT per column moved, so replays need no separate shift event
+    @Override
+    public ViewData onShiftEvent(MoveEvent event) {
+        int startX = engine.getBoard().getBrickX();
+        ViewData viewData = engine.onShiftEvent(event);
+        int columns = Math.abs(viewData.getxPosition() - startX);
+        for (int i = 0; i < columns; i++) {
+            record(event);
+        }
+        return viewData;
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        record(event);
+        return engine.onRotateEvent(event);
+    }
+
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        record(event);
+        return engine.onHoldEvent(event);
+    }
+
+    @Override
+    public void createNewGame() {
+        endZenGame();
+        startEngine(seeds.nextLong(), this);
+    }
+
+    // Zen games never top out, so one ends when the player restarts, replays or leaves it
+    private void endZenGame() {
+        if (mode == GameMode.ZEN && recorder != null && recorder.getEventCount() > 0) {
+            finishRecording(NO_STANDING);
+        }
+    }
+
+    @Override
+    public void onScoreChanged(int newScore, int linesCleared) {
+        // The labels bound to the score live in the scene
+        viewGuiController.onFx(() -> score.update(newScore, linesCleared));
+    }
+
+    @Override
+    public void onLevelUp(int level) {
+        viewGuiController.levelUp(level);
+    }
+
+    @Override
+    public void onBackgroundChanged(int[][] boardMatrix, DirtyRegion dirtyRegion) {
+        viewGuiController.refreshGameBackground(boardMatrix, dirtyRegion);
+    }
+
+    @Override
+    public void onBoardCleared(int[][] boardMatrix) {
+        viewGuiController.showZenClearNotification();
+    }
+
+    // Keeps and saves the replay and ranks the game; replays are not recorded again
+    private void finishRecording(Consumer<Standing> onRanked) {
+        if (recorder == null) {
+            return;
+        }
+        lastReplay = recorder.toReplay(viewGuiController.getInputTick());
+        recorder = null;
+        saveReplay(lastReplay);
+        GameScore result = engine.getScore();
+        long durationMillis = (System.nanoTime() - startNanos) / 1_000_000L;
+        HighScoreManager.getLeaderboard().record(new GameRecord(mode, result.getScore(), result.getLinesCleared(),
+                result.getLevel(), durationMillis, seed, System.currentTimeMillis()), onRanked);
+    }
+
+    // The game over panel comes up first and shows the rank once the leaderboard has it
+    @Override
+    public void onGameOver() {
+        viewGuiController.gameOver();
+        finishRecording(viewGuiController::showStanding);
+    }
+}
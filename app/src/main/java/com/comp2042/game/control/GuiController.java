@@ -1,9 +1,26 @@
 package com.comp2042.game.control;
 
+import com.comp2042.Main;
 import com.comp2042.game.event.*;
+import com.comp2042.game.ui.BoardRenderer;
+import com.comp2042.game.ui.CanvasRenderer;
+import com.comp2042.game.ui.DropTrailEffect;
+import com.comp2042.game.ui.Frame;
 import com.comp2042.game.ui.GameOverPanel;
 import com.comp2042.game.ui.NotificationPanel;
+import com.comp2042.game.ui.Palette;
+import com.comp2042.game.ui.PerformanceHud;
+import com.comp2042.game.ui.RendererType;
+import com.comp2042.game.ui.SceneGraphRenderer;
 import com.comp2042.game.ui.ViewData;
+import com.comp2042.logic.leaderboard.Standing;
+import com.comp2042.logic.metrics.Histogram;
+import com.comp2042.logic.metrics.HistogramSnapshot;
+import com.comp2042.logic.metrics.JvmMetrics;
+import com.comp2042.logic.metrics.MetricsRegistry;
+import com.comp2042.logic.replay.Replay;
+import com.comp2042.logic.replay.ReplayPlayer;
+import javafx.animation.AnimationTimer;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.application.Platform;
@@ -15,23 +32,28 @@ import javafx.event.EventHandler;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.control.Label;
-import javafx.scene.effect.Reflection;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
-import javafx.scene.paint.Color;
-import javafx.scene.paint.Paint;
-import javafx.scene.shape.Rectangle;
-import javafx.scene.shape.StrokeType;
 import javafx.scene.text.Font;
 import javafx.util.Duration;
+import java.io.IOException;
+import java.io.Writer;
 import java.net.URL;
-import java.util.ArrayList;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.function.Supplier;
 import com.comp2042.game.ui.PauseMenu;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -40,10 +62,6 @@ import javafx.stage.Stage;
 
 public class GuiController implements Initializable {
 
-    private static final int BRICK_SIZE = 20;
-    private static final int GAME_BOARD_OFFSET_X = 180;
-    private static final int GAME_BOARD_OFFSET_Y = 30;
-
     @FXML
     private GridPane gamePanel;
 
@@ -90,39 +108,77 @@ public class GuiController implements Initializable {
 
     private GameOverPanel gameOverPanel;
 
-    private Rectangle[][] displayMatrix;
-
     private InputEventListener eventListener;
 
-    private Rectangle[][] rectangles;
+    private BoardRenderer renderer;
 
-    private Rectangle[][] shadowRectangles;
+    private Palette palette;
 
-    private Timeline timeLine;
+    private DropTrailEffect dropTrail;
 
-    private final BooleanProperty isPause = new SimpleBooleanProperty();
+    private GameLoop gameLoop;
 
-    private final BooleanProperty isGameOver = new SimpleBooleanProperty();
+    // Only set with --logic=thread; the game is then touched on that thread alone (see onLogic/onFx)
+    private LogicThread logicThread;
+
+    private AnimationTimer renderTimer;
+
+    private long renderedSequence = -1;
+
+    private int repaintedCells;
 
-    private Timeline instantDropTimeline;
+    private int repaintedCellsPerFrame;
 
-    private final List<Rectangle> ghostNodes = new ArrayList<>();
+    // The field copy last published on the logic thread, the one last drawn from a frame, and the
+    // region that redraws a new field whole
+    private int[][] publishedField;
+    private int[][] shownField;
+    private long shownFieldResets;
+    private DirtyRegion wholeField;
+
+    // Frame pipeline timings for the HUD (F3) and the CSV export (F4); recording never locks
+    private static final Path METRICS_FILE = Paths.get("metrics.csv");
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private final Histogram pulseIntervals = metrics.histogram(PerformanceHud.PULSE);
+    private final Histogram renderTimes = metrics.histogram(PerformanceHud.RENDER);
+    private final Histogram repaintedCellCounts = metrics.histogram(PerformanceHud.REPAINTED_CELLS);
+    private final JvmMetrics jvmMetrics = new JvmMetrics(metrics.histogram(PerformanceHud.GC_PAUSE),
+            metrics.histogram(PerformanceHud.ALLOCATED));
+    private PerformanceHud performanceHud;
+    private long lastPulseNanos;
+
+    private final InputLatency inputLatency = new InputLatency(metrics.histogram(PerformanceHud.INPUT_LATENCY));
+
+    private final BooleanProperty isPause = new SimpleBooleanProperty();
+
+    private final BooleanProperty isGameOver = new SimpleBooleanProperty();
 
     private long startTime;
     private Timeline timerTimeline;
-    private int highScore = HighScoreManager.loadHighScore();
+    // 0 until the saved high score arrives from the writer thread
+    private int highScore;
 
     private int currentLevel = 1;
-    private static final int BASE_SPEED = 600;
 
     private GameMode currentGameMode;
     private Label gameModeLabel;
 
-    private boolean isDropping = false;
     private final BooleanProperty spaceKeyPressed = new SimpleBooleanProperty(false);
 
+    private final Set<KeyCode> heldKeys = EnumSet.noneOf(KeyCode.class);
+
     private SoundManager soundManager;
 
+    private Runnable autoPlayer;
+    private Runnable quitHandler;
+    private volatile boolean autoPlay = false;
+
+    private static final int MAX_REPLAY_SPEED = 16;
+    private Supplier<Replay> replaySource;
+    // FX side: true from R until the replay ends or another game starts
+    private boolean replaying;
+    private int replaySpeed = 1;
+
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         Font.loadFont(getClass().getClassLoader().getResource("determination.ttf").toExternalForm(), 38);
@@ -162,35 +218,54 @@ public class GuiController implements Initializable {
                     keyEvent.consume();
                     return;
                 }
-                if (isPause.getValue() == Boolean.FALSE && isGameOver.getValue() == Boolean.FALSE) {
-                    if (keyEvent.getCode() == KeyCode.LEFT || keyEvent.getCode() == KeyCode.A) {
-                        refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
-                        keyEvent.consume();
-                    }
-                    if (keyEvent.getCode() == KeyCode.RIGHT || keyEvent.getCode() == KeyCode.D) {
-                        refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
-                        keyEvent.consume();
-                    }
-                    if (keyEvent.getCode() == KeyCode.UP || keyEvent.getCode() == KeyCode.W) {
-                        refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
-                        keyEvent.consume();
-                    }
-                    if (keyEvent.getCode() == KeyCode.DOWN || keyEvent.getCode() == KeyCode.S) {
-                        moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
+                if (keyEvent.getCode() == KeyCode.F3) {
+                    performanceHud.toggle();
+                    keyEvent.consume();
+                    return;
+                }
+                if (keyEvent.getCode() == KeyCode.F4) {
+                    exportMetrics();
+                    keyEvent.consume();
+                    return;
+                }
+                if (keyEvent.getCode() == KeyCode.R && replaySource != null) {
+                    startReplay();
+                    keyEvent.consume();
+                    return;
+                }
+                if (keyEvent.getCode() == KeyCode.EQUALS || keyEvent.getCode() == KeyCode.ADD) {
+                    setReplaySpeed(replaySpeed * 2);
+                    keyEvent.consume();
+                    return;
+                }
+                if (keyEvent.getCode() == KeyCode.MINUS || keyEvent.getCode() == KeyCode.SUBTRACT) {
+                    setReplaySpeed(replaySpeed / 2);
+                    keyEvent.consume();
+                    return;
+                }
+                if (keyEvent.getCode() == KeyCode.B && autoPlayer != null) {
+                    autoPlay = !autoPlay;
+                    onLogic(GuiController.this::runAutoPlayer);
+                    keyEvent.consume();
+                    return;
+                }
+                if (isPause.getValue() == Boolean.FALSE && isGameOver.getValue() == Boolean.FALSE && !replaying) {
+                    // Presses are queued with their arrival time and applied on the next logic tick.
+                    // OS key repeat is ignored; held moves repeat from the tick (DAS/ARR, soft drop).
+                    EventType move = moveFor(keyEvent.getCode());
+                    if (move != null) {
+                        if (heldKeys.add(keyEvent.getCode())) {
+                            gameLoop.keyPressed(move, System.nanoTime());
+                        }
                         keyEvent.consume();
                     }
                     if (keyEvent.getCode() == KeyCode.SPACE) {
-                        if (!isDropping && !spaceKeyPressed.getValue()) {
+                        if (!spaceKeyPressed.getValue()) {
                             spaceKeyPressed.setValue(true);
                             instantDrop();
                         }
                         keyEvent.consume();
                     }
-                    if (keyEvent.getCode() == KeyCode.C) {
-                        refreshBrick(eventListener.onHoldEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
-                        keyEvent.consume();
-                    }
-
                 }
             }
 
@@ -202,25 +277,48 @@ public class GuiController implements Initializable {
                     spaceKeyPressed.setValue(false);
                     keyEvent.consume();
                 }
+                if (heldKeys.remove(keyEvent.getCode())) {
+                    gameLoop.keyReleased(moveFor(keyEvent.getCode()), System.nanoTime());
+                    keyEvent.consume();
+                }
+            }
+        });
+        // Releases are never delivered once focus moves elsewhere, so let go of everything then
+        gamePanel.focusedProperty().addListener((obs, wasFocused, focused) -> {
+            if (!focused) {
+                releaseHeldKeys();
             }
         });
         gameOverPanel.setVisible(false);
+    }
 
-        shadowRectangles = new Rectangle[4][4];
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                shadowRectangles[i][j] = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                shadowRectangles[i][j].setFill(Color.TRANSPARENT);
-                shadowRectangles[i][j].setArcWidth(6);
-                shadowRectangles[i][j].setArcHeight(6);
-                shadowRectangles[i][j].setOpacity(0.35);
-            }
+    private static EventType moveFor(KeyCode code) {
+        switch (code) {
+            case LEFT:
+            case A:
+                return EventType.LEFT;
+            case RIGHT:
+            case D:
+                return EventType.RIGHT;
+            case UP:
+            case W:
+                return EventType.ROTATE;
+            case DOWN:
+            case S:
+                return EventType.DOWN;
+            case C:
+                return EventType.HOLD;
+            default:
+                return null;
         }
+    }
 
-        final Reflection reflection = new Reflection();
-        reflection.setFraction(0.8);
-        reflection.setTopOpacity(0.9);
-        reflection.setTopOffset(-12);
+    private void releaseHeldKeys() {
+        long now = System.nanoTime();
+        for (KeyCode code : heldKeys) {
+            gameLoop.keyReleased(moveFor(code), now);
+        }
+        heldKeys.clear();
     }
 
 
@@ -228,6 +326,7 @@ public class GuiController implements Initializable {
     public void initGameView(int[][] boardMatrix, ViewData brick,GameMode mode) {
         this.currentGameMode = mode;
         soundManager = SoundManager.getInstance();
+        HighScoreManager.loadHighScore(saved -> onFx(() -> showSavedHighScore(saved)));
 
         StackPane rootPane = (StackPane) gamePanel.getScene().getRoot();
         if (mode == GameMode.ZEN) {
@@ -265,36 +364,31 @@ public class GuiController implements Initializable {
         gameModeLabel.setLayoutX(270);
         gameModeLabel.setLayoutY(35);
         ((javafx.scene.layout.Pane) gamePanel.getParent()).getChildren().add(gameModeLabel);
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-        for (int i = 2; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);
-                displayMatrix[i][j] = rectangle;
-                gamePanel.add(rectangle, j, i - 2);
-            }
-        }
-
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(getFillColor(brick.getBrickData()[i][j]));
-                rectangles[i][j] = rectangle;
-                brickPanel.add(rectangle, j, i);
+        palette = Palette.resolve(Main.getTheme(), mode);
+        renderer = createRenderer();
+        if (Main.isDropTrailEnabled()) {
+            dropTrail = new DropTrailEffect((Pane) groupNotification.getParent(), gamePanel, palette);
+        }
+        renderer.init(boardMatrix, brick);
+        performanceHud = new PerformanceHud(metrics);
+        performanceHud.setLayoutX(8);
+        performanceHud.setLayoutY(8);
+        ((Pane) groupNotification.getParent()).getChildren().add(performanceHud);
+        jvmMetrics.start();
+
+        renderTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                renderFrame(now);
             }
+        };
+        renderTimer.start();
+        // Closing the window ends the game before Main.stop() flushes the files
+        gamePanel.getScene().getWindow().setOnCloseRequest(e -> quit());
+        gameLoop.start(System.nanoTime());
+        if (logicThread != null) {
+            logicThread.start();
         }
-        positionBrickPanel(brick);
-
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(600),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
-
-        initPreviewGrid();
-        initHoldGrid();
 
         highScoreLabel.setText("High Score: " + highScore);
 
@@ -353,215 +447,243 @@ public class GuiController implements Initializable {
         });
     }
 
-    private void initHoldGrid() {
-        heldBrickGrid.getChildren().clear();
-        for (int r = 0; r < 4; r++) {
-            for (int c = 0; c < 4; c++) {
-                Rectangle rec = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rec.setFill(Color.TRANSPARENT);
-                rec.setArcWidth(9);
-                rec.setArcHeight(9);
-                heldBrickGrid.add(rec, c, r);
-            }
+    // The renderer is picked at startup (see Main); both draw the same board, brick, ghost, preview and hold
+    private BoardRenderer createRenderer() {
+        if (Main.getRendererType() == RendererType.CANVAS) {
+            Pane playArea = (Pane) groupNotification.getParent();
+            Canvas canvas = new Canvas(playArea.getPrefWidth(), playArea.getPrefHeight());
+            canvas.setMouseTransparent(true);
+            playArea.getChildren().add(playArea.getChildren().indexOf(groupNotification), canvas);
+            return new CanvasRenderer(canvas, gamePanel, nextBrickGrid, heldBrickGrid, palette);
         }
+        return new SceneGraphRenderer(gamePanel, brickPanel, nextBrickGrid, heldBrickGrid, palette);
     }
-    private void updateHoldGrid(int[][] heldBrick) {
-        for (int i = 0; i < heldBrickGrid.getChildren().size(); i++) {
-            Rectangle cell = (Rectangle) heldBrickGrid.getChildren().get(i);
-            cell.setFill(Color.TRANSPARENT);
-        }
 
-        if (heldBrick != null) {
-            int offsetX = (4 - heldBrick[0].length) / 2;
-            int offsetY = (4 - heldBrick.length) / 2;
 
-            for (int r = 0; r < heldBrick.length; r++) {
-                for (int c = 0; c < heldBrick[r].length; c++) {
-                    if (heldBrick[r][c] != 0) {
-                        int gridRow = r + offsetY;
-                        int gridCol = c + offsetX;
-                        int gridIndex = gridRow * 4 + gridCol;
+    private void refreshBrick(ViewData brick) {
+        if (isPause.getValue() == Boolean.FALSE) {
+            renderer.drawBrick(brick);
+        }
+    }
 
-                        if (gridIndex < heldBrickGrid.getChildren().size()) {
-                            Rectangle cell = (Rectangle) heldBrickGrid.getChildren().get(gridIndex);
-                            cell.setFill(getFillColor(heldBrick[r][c]));
-                        }
-                    }
-                }
-            }
+    public void refreshGameBackground(int[][] board, DirtyRegion dirtyRegion) {
+        if (logicThread != null) {
+            // The board keeps changing on the logic thread, so the renderer gets a copy with the next frame;
+            // only the dirty rows are copied, the rest are shared with the previous copy
+            publishedField = dirtyRegion.copyDirtyRows(board, publishedField);
+            gameLoop.publishField(publishedField, dirtyRegion.isFull());
+            return;
         }
+        repaintedCells += renderer.drawBackground(board, dirtyRegion);
     }
 
-    private void positionBrickPanel(ViewData brick) {
-        double xPos = GAME_BOARD_OFFSET_X + 11.5 + brick.getxPosition() * (BRICK_SIZE + 1);
-        double yPos = GAME_BOARD_OFFSET_Y + brick.getyPosition() * (BRICK_SIZE + 1) - 4;
-        brickPanel.setLayoutX(xPos);
-        brickPanel.setLayoutY(yPos);
+    // Frames from the logic thread carry a field whose changed rows are new arrays, so only those rows
+    // are compared, however many frames were skipped since the last one drawn
+    private void refreshGameBackground(Frame frame) {
+        int[][] field = frame.getField();
+        if (field == null || field == shownField) {
+            return;
+        }
+        boolean reset = shownField == null || frame.getFieldResets() != shownFieldResets;
+        if (wholeField == null) {
+            wholeField = DirtyRegion.allCells(field.length, field[0].length, true);
+        }
+        DirtyRegion dirty = reset ? wholeField : DirtyRegion.changedRows(shownField, field);
+        shownField = field;
+        shownFieldResets = frame.getFieldResets();
+        repaintedCells += renderer.drawBackground(field, dirty);
     }
 
-    private void initPreviewGrid() {
-        nextBrickGrid.getChildren().clear();
-        for (int row = 0; row < 15; row++) {
-            for (int col = 0; col < 5; col++) {
-                Rectangle rec = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rec.setFill(Color.TRANSPARENT);
-                rec.setArcWidth(9);
-                rec.setArcHeight(9);
-                nextBrickGrid.add(rec, col, row);
-            }
+    // With --logic=thread game state is only touched on the logic thread; otherwise this runs inline
+    private void onLogic(Runnable action) {
+        if (logicThread != null) {
+            logicThread.execute(action);
+        } else {
+            action.run();
         }
     }
 
-    private Paint getFillColor(int i) {
-        if (currentGameMode == GameMode.ZEN) {
-            switch (i) {
-                case 0: return Color.TRANSPARENT;
-                case 1: return Color.rgb(77, 208, 225);    // Cyan
-                case 2: return Color.rgb(100, 181, 246);   // Light blue
-                case 3: return Color.rgb(38, 198, 218);    // Teal
-                case 4: return Color.rgb(128, 222, 234);   // Pale cyan
-                case 5: return Color.rgb(0, 188, 212);     // Dark cyan
-                case 6: return Color.rgb(77, 182, 172);    // Teal-green
-                case 7: return Color.rgb(38, 166, 154);    // Sea green
-                default: return Color.WHITE;
-            }
+    // Listener callbacks may arrive on the logic thread; anything that touches the scene goes through here
+    public void onFx(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
         } else {
-            switch (i) {
-                case 0: return Color.TRANSPARENT;
-                case 1: return Color.rgb(186, 104, 200);   // Light purple
-                case 2: return Color.rgb(156, 39, 176);    // Deep purple
-                case 3: return Color.rgb(123, 31, 162);    // Rich purple
-                case 4: return Color.rgb(103, 58, 183);    // Indigo-purple
-                case 5: return Color.rgb(149, 117, 205);   // Soft lavender
-                case 6: return Color.rgb(94, 53, 177);     // Medium-dark purple
-                case 7: return Color.rgb(74, 20, 140);     // Dark violet
-                default: return Color.WHITE;
-            }
+            Platform.runLater(action);
         }
     }
 
+    // Key press to drawn frame, over every queued move so far
+    public InputLatency getInputLatency() {
+        return inputLatency;
+    }
 
-    private void refreshBrick(ViewData brick) {
-        if (isPause.getValue() == Boolean.FALSE) {
-            for (Rectangle[] row : rectangles) {
-                for (Rectangle r : row) {
-                    gamePanel.getChildren().remove(r);
-                    r.setFill(Color.TRANSPARENT);
-                }
-            }
+    // Background cells redrawn during the last rendered frame, locks from key presses included
+    public int getRepaintedCellsPerFrame() {
+        return repaintedCellsPerFrame;
+    }
 
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    if (brick.getBrickData()[i][j] != 0) {
-                        int gridX = brick.getxPosition() + j;
-                        int gridY = brick.getyPosition() + i;
-                        if (gridY >= 2 && gridY < 25) {
-                            rectangles[i][j].setFill(getFillColor(brick.getBrickData()[i][j]));
-                            rectangles[i][j].setArcWidth(6);
-                            rectangles[i][j].setArcHeight(6);
-                            gamePanel.add(rectangles[i][j], gridX, gridY - 2);
-                        }
-                    }
-                }
+    private void showClearRowNotification(ClearRow clearRow) {
+        if (clearRow != null && clearRow.getLinesRemoved() > 0) {
+            soundManager.playSound("clear_row");
+            NotificationPanel notificationPanel = new NotificationPanel("+" + clearRow.getScoreBonus());
+            groupNotification.getChildren().add(notificationPanel);
+            notificationPanel.showScore(groupNotification.getChildren());
+        }
+    }
+
+    private void brickLocked(DownData downData) {
+        onFx(() -> {
+            showClearRowNotification(downData.getClearRow());
+            if (dropTrail != null) {
+                dropTrail.play(downData.getDropTrail());
+            }
+        });
+        runAutoPlayer();
+    }
+
+    // Runs the logic ticks that are due (unless the logic thread does) and draws the newest frame,
+    // at most once per pulse
+    private void renderFrame(long now) {
+        if (lastPulseNanos != 0) {
+            pulseIntervals.record(now - lastPulseNanos);
+        }
+        lastPulseNanos = now;
+        if (logicThread == null) {
+            gameLoop.advance(now);
+        }
+        Frame frame = gameLoop.getFrame();
+        if (frame.getSequence() != renderedSequence) {
+            long started = System.nanoTime();
+            renderedSequence = frame.getSequence();
+            refreshGameBackground(frame);
+            refreshBrick(frame.getView());
+            long rendered = System.nanoTime();
+            renderTimes.record(rendered - started);
+            inputLatency.record(frame, rendered);
+        }
+        repaintedCellsPerFrame = repaintedCells;
+        repaintedCellCounts.record(repaintedCells);
+        repaintedCells = 0;
+        jvmMetrics.sampleAllocation();
+        performanceHud.refresh(now);
+    }
+
+    // Writes every histogram so far to metrics.csv off the FX thread
+    private void exportMetrics() {
+        Map<String, HistogramSnapshot> snapshot = metrics.snapshot();
+        Thread writer = new Thread(() -> {
+            try (Writer out = Files.newBufferedWriter(METRICS_FILE)) {
+                MetricsRegistry.writeCsv(snapshot, out);
+            } catch (IOException e) {
+                System.err.println("Error saving metrics: " + e.getMessage());
             }
+        }, "metrics-export");
+        writer.setDaemon(true);
+        writer.start();
+        NotificationPanel savedNotif = new NotificationPanel("METRICS SAVED");
+        groupNotification.getChildren().add(savedNotif);
+        savedNotif.showScore(groupNotification.getChildren());
+    }
 
-            updateShadow(brick);
+    public void setEventListener(InputEventListener eventListener) {
+        this.eventListener = eventListener;
+        gameLoop = new GameLoop(eventListener);
+        gameLoop.setHandling(Main.getDasMillis(), Main.getArrMillis(), Main.getSoftDropFactor());
+        gameLoop.setLockHandler(this::brickLocked);
+        gameLoop.setTickHistogram(metrics.histogram(PerformanceHud.TICK));
+        gameLoop.setScriptEndHandler(() -> onFx(this::stopReplay));
+        if (Main.isLogicThreaded()) {
+            logicThread = new LogicThread(gameLoop);
+        }
+    }
 
-            List<int[][]> nextBricks = brick.getNextBricksData();
-            updatePreviewGrid(nextBricks);
+    // Called once per new brick while autoplay (B) is on; it steers the brick through the event listener.
+    public void setAutoPlayer(Runnable autoPlayer) {
+        this.autoPlayer = autoPlayer;
+    }
 
-            updateHoldGrid(brick.getHeldBrickData());
+    // The loop is stopped while paused or after game over, which is also when the bot must not move
+    private void runAutoPlayer() {
+        if (autoPlay && autoPlayer != null && gameLoop.isRunning() && !gameLoop.isScripted()) {
+            autoPlayer.run();
+            gameLoop.publish(eventListener.getViewData());
+            // Plans stop above the resting place; dropping there beats waiting on gravity
+            gameLoop.hardDropOnNextTick();
         }
     }
 
-    private void updatePreviewGrid(List<int[][]> nextBricks) {
-        for (javafx.scene.Node node : nextBrickGrid.getChildren()) {
-            ((Rectangle) node).setFill(Color.TRANSPARENT);
-        }
+    // Called once when the player leaves the game for the menu or closes the window
+    public void setQuitHandler(Runnable quitHandler) {
+        this.quitHandler = quitHandler;
+    }
 
-        for (int brickIndex = 0; brickIndex < Math.min(3, nextBricks.size()); brickIndex++) {
-            int[][] brickData = nextBricks.get(brickIndex);
+    // Supplies the replay to show (R); the supplier resets the game to the replay's starting state.
+    public void setReplaySource(Supplier<Replay> replaySource) {
+        this.replaySource = replaySource;
+    }
 
-            int minRow = 4, maxRow = -1, minCol = 4, maxCol = -1;
-            for (int r = 0; r < 4; r++) {
-                for (int c = 0; c < 4; c++) {
-                    if (brickData[r][c] != 0) {
-                        minRow = Math.min(minRow, r);
-                        maxRow = Math.max(maxRow, r);
-                        minCol = Math.min(minCol, c);
-                        maxCol = Math.max(maxCol, c);
-                    }
-                }
+    // The game tick a move made now is recorded under; call it on the logic side
+    public long getInputTick() {
+        return gameLoop.getInputTick();
+    }
+
+    // The recorded moves run through the game loop by tick, so gravity, level-ups and speed match the live game
+    private void startReplay() {
+        onLogic(() -> {
+            Replay replay = replaySource.get();
+            if (replay == null) {
+                return;
             }
+            gameLoop.publish(eventListener.getViewData());
+            gameLoop.setGravity(GameLoop.gravityForLevel(1));
+            gameLoop.play(ReplayPlayer.script(replay), System.nanoTime());
+            onFx(this::showReplay);
+        });
+    }
 
-            if (maxRow < 0) continue;
+    private void showReplay() {
+        if (timerTimeline != null) timerTimeline.stop();
 
-            int width = maxCol - minCol + 1;
-            int height = maxRow - minRow + 1;
-            int colOffset = (5 - width) / 2;
-            int rowOffset = (4 - height) / 2;
+        spaceKeyPressed.setValue(false);
 
-            for (int r = minRow; r <= maxRow; r++) {
-                for (int c = minCol; c <= maxCol; c++) {
-                    if (brickData[r][c] != 0) {
-                        int displayRow = brickIndex * 5 + rowOffset + (r - minRow);
-                        int displayCol = colOffset + (c - minCol);
+        if (pauseOverlay != null) pauseOverlay.setVisible(false);
+        isPause.setValue(Boolean.FALSE);
 
-                        Rectangle cell = getRectangleAt(nextBrickGrid, displayCol, displayRow);
-                        if (cell != null) {
-                            cell.setFill(getFillColor(brickData[r][c]));
-                        }
-                    }
-                }
-            }
-        }
-    }
+        gameOverOverlay.setVisible(false);
+        isGameOver.setValue(Boolean.FALSE);
 
-    // Helper method to get rectangle at specific grid position
-    private Rectangle getRectangleAt(GridPane grid, int col, int row) {
-        for (javafx.scene.Node node : grid.getChildren()) {
-            Integer nodeCol = GridPane.getColumnIndex(node);
-            Integer nodeRow = GridPane.getRowIndex(node);
-            if (nodeCol != null && nodeRow != null && nodeCol == col && nodeRow == row) {
-                return (Rectangle) node;
-            }
-        }
-        return null;
-    }
-    public void refreshGameBackground(int[][] board) {
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
-            }
-        }
-    }
+        startTime = System.currentTimeMillis();
+        timeLabel.setText("Time: 0:00");
+        timerTimeline = new Timeline(new KeyFrame(
+                Duration.seconds(1),
+                ae -> updateTimer()
+        ));
+        timerTimeline.setCycleCount(Timeline.INDEFINITE);
+        timerTimeline.play();
 
-    private void setRectangleData(int color, Rectangle rectangle) {
-        rectangle.setFill(getFillColor(color));
-        rectangle.setArcHeight(9);
-        rectangle.setArcWidth(9);
+        replaying = true;
+        setReplaySpeed(replaySpeed);
+        gamePanel.requestFocus();
     }
 
-    private void showClearRowNotification(ClearRow clearRow) {
-        if (clearRow != null && clearRow.getLinesRemoved() > 0) {
-            soundManager.playSound("clear_row");
-            NotificationPanel notificationPanel = new NotificationPanel("+" + clearRow.getScoreBonus());
-            groupNotification.getChildren().add(notificationPanel);
-            notificationPanel.showScore(groupNotification.getChildren());
-        }
+    private void stopReplay() {
+        replaying = false;
     }
 
-    private void moveDown(MoveEvent event) {
-        if (isPause.getValue() == Boolean.FALSE) {
-            DownData downData = eventListener.onDownEvent(event);
-            showClearRowNotification(downData.getClearRow());
-            refreshBrick(downData.getViewData());
+    private void setReplaySpeed(int speed) {
+        if (!replaying) {
+            return;
         }
-        gamePanel.requestFocus();
+        replaySpeed = Math.max(1, Math.min(MAX_REPLAY_SPEED, speed));
+        int gameSpeed = replaySpeed;
+        onLogic(() -> gameLoop.setSpeed(gameSpeed));
+        showReplayNotification();
     }
 
-    public void setEventListener(InputEventListener eventListener) {
-        this.eventListener = eventListener;
+    private void showReplayNotification() {
+        NotificationPanel replayNotif = new NotificationPanel("REPLAY " + replaySpeed + "x");
+        groupNotification.getChildren().add(replayNotif);
+        replayNotif.showScore(groupNotification.getChildren());
     }
 
     public void bindScore(IntegerProperty integerProperty) {
@@ -571,11 +693,26 @@ public class GuiController implements Initializable {
         });
     }
 
+    // Stops the loop straight away on the calling thread; the rest updates the scene
     public void gameOver() {
-        timeLine.stop();
+        gameLoop.stop();
+        onFx(this::showGameOver);
+    }
+
+    // The leaderboard's rank for the game just over; may be called from any thread
+    public void showStanding(Standing standing) {
+        onFx(() -> {
+            if (isGameOver.getValue() && gameOverPanel != null) {
+                gameOverPanel.showStanding(standing);
+            }
+        });
+    }
+
+    private void showGameOver() {
+        stopReplay();
         if (timerTimeline != null) timerTimeline.stop();
         isGameOver.setValue(Boolean.TRUE);
-        if (instantDropTimeline != null) instantDropTimeline.stop();
+        HighScoreManager.flush();
 
         soundManager.stopMusic();
         soundManager.playSound("board_clear");
@@ -617,11 +754,10 @@ public class GuiController implements Initializable {
         }
     }
     public void newGame(ActionEvent actionEvent) {
-        if (timeLine != null) timeLine.stop();
+        stopReplay();
+        onLogic(gameLoop::stop);
         if (timerTimeline != null) timerTimeline.stop();
-        if (instantDropTimeline != null) instantDropTimeline.stop();
 
-        isDropping = false;
         spaceKeyPressed.setValue(false);
 
         if (pauseOverlay != null) pauseOverlay.setVisible(false);
@@ -630,17 +766,7 @@ public class GuiController implements Initializable {
         gameOverOverlay.setVisible(false);
         isGameOver.setValue(Boolean.FALSE);
 
-        eventListener.createNewGame();
-
-        ViewData viewData = eventListener.getViewData();
-        refreshBrick(viewData);
-
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(BASE_SPEED),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
+        onLogic(this::startNewGame);
 
         startTime = System.currentTimeMillis();
         timeLabel.setText("Time: 0:00");
@@ -655,99 +781,21 @@ public class GuiController implements Initializable {
     }
 
     private void instantDrop() {
-        if (isPause.getValue() || isGameOver.getValue() || isDropping) return;
+        if (isPause.getValue() || isGameOver.getValue()) return;
 
-        isDropping = true; // Set flag to prevent concurrent drops
         soundManager.playSound("hard_drop");
-
-        if (instantDropTimeline != null) {
-            instantDropTimeline.stop();
-        }
-
-        instantDropTimeline = new Timeline(
-                new KeyFrame(Duration.millis(1), ae -> {
-                    DownData down = eventListener.onDownEvent(
-                            new MoveEvent(EventType.DOWN, EventSource.USER));
-                    refreshBrick(down.getViewData());
-
-                    showClearRowNotification(down.getClearRow());
-
-                    if (down.getClearRow() != null) {
-                        instantDropTimeline.stop();
-                        isDropping = false;
-                    }
-                })
-        );
-        instantDropTimeline.setCycleCount(Timeline.INDEFINITE);
-
-        instantDropTimeline.setOnFinished(event -> {
-            isDropping = false;
-        });
-
-        instantDropTimeline.play();
+        // Queued like the other moves; spaceKeyPressed keeps a held key from dropping twice
+        gameLoop.keyPressed(EventType.HARD_DROP, System.nanoTime());
     }
 
-    private Paint getGhostColor(int colorCode) {
-        if (currentGameMode == GameMode.ZEN) {
-            switch (colorCode) {
-                case 0: return Color.TRANSPARENT;
-                case 1: return Color.rgb(38, 104, 113);    // Dark cyan
-                case 2: return Color.rgb(50, 90, 123);     // Dark light blue
-                case 3: return Color.rgb(19, 99, 109);     // Dark teal
-                case 4: return Color.rgb(64, 111, 117);    // Dark pale cyan
-                case 5: return Color.rgb(0, 94, 106);      // Very dark cyan
-                case 6: return Color.rgb(38, 91, 86);      // Dark teal-green
-                case 7: return Color.rgb(19, 83, 77);      // Dark sea green
-                default: return Color.GRAY;
-            }
-        } else {
-            switch (colorCode) {
-                case 0: return Color.TRANSPARENT;
-                case 1: return Color.rgb(112,  62, 120);   // ghost light purple
-                case 2: return Color.rgb( 94,  23, 106);   // ghost deep purple
-                case 3: return Color.rgb( 74,  19,  97);   // ghost rich purple
-                case 4: return Color.rgb( 62,  35, 110);   // ghost indigo-purple
-                case 5: return Color.rgb( 89,  70, 123);   // ghost soft lavender
-                case 6: return Color.rgb( 56,  32, 106);   // ghost medium-dark purple
-                case 7: return Color.rgb( 44,  12,  84);   // ghost dark violet
-                default: return Color.GRAY;
-            }
-        }
-    }
-
-    private void updateShadow(ViewData brick) {
-        // Clear old shadow pieces - REMOVE from gamePanel first
-        for (int i = 0; i < shadowRectangles.length; i++) {
-            for (int j = 0; j < shadowRectangles[i].length; j++) {
-                gamePanel.getChildren().remove(shadowRectangles[i][j]);
-                shadowRectangles[i][j].setFill(Color.TRANSPARENT);
-            }
-        }
+    // Logic side of a new game or restart
+    private void startNewGame() {
+        gameLoop.stop();
+        eventListener.createNewGame();
+        gameLoop.publish(eventListener.getViewData());
 
-        // Calculate shadow Y position
-        int shadowYPosition = brick.getyPosition() + brick.getDropDistance();
-
-        // Only draw shadow if it's different from current position
-        if (shadowYPosition != brick.getyPosition()) {
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    if (brick.getBrickData()[i][j] != 0) {
-                        int gridX = brick.getxPosition() + j;
-                        int gridY = shadowYPosition + i;
-                        if (gridY >= 2 && gridY < 25) {
-                            shadowRectangles[i][j].setFill(getGhostColor(brick.getBrickData()[i][j]));
-                            shadowRectangles[i][j].setArcHeight(6);
-                            shadowRectangles[i][j].setArcWidth(6);
-                            shadowRectangles[i][j].setOpacity(0.35);
-                            shadowRectangles[i][j].setStroke(Color.WHITE);
-                            shadowRectangles[i][j].setStrokeWidth(1);
-                            shadowRectangles[i][j].setStrokeType(StrokeType.INSIDE);
-                            gamePanel.add(shadowRectangles[i][j], gridX, gridY - 2);
-                        }
-                    }
-                }
-            }
-        }
+        gameLoop.setGravity(GameLoop.gravityForLevel(1));
+        gameLoop.start(System.nanoTime());
     }
 
     private void updateTimer() {
@@ -757,6 +805,15 @@ public class GuiController implements Initializable {
         timeLabel.setText(String.format("Time: %d:%02d", minutes, seconds));
     }
 
+    private void showSavedHighScore(int saved) {
+        if (saved > highScore) {
+            highScore = saved;
+            if (currentGameMode == GameMode.NORMAL) {
+                highScoreLabel.setText("High Score: " + highScore);
+            }
+        }
+    }
+
     private void updateHighScore(int currentScore) {
         if (currentScore > highScore) {
             highScore = currentScore;
@@ -781,21 +838,15 @@ public class GuiController implements Initializable {
     }
 
     public void levelUp(int newLevel) {
+        // Level 1: 600ms per row, Level 2: 540ms, Level 3: 486ms, etc.
+        gameLoop.setGravity(GameLoop.gravityForLevel(newLevel));
+        onFx(() -> showLevelUp(newLevel));
+    }
+
+    private void showLevelUp(int newLevel) {
         currentLevel = newLevel;
         levelLabel.setText(String.valueOf(newLevel));
 
-        // Calculate new speed: speed decreases as level increases
-        // Level 1: 600ms, Level 2: 540ms, Level 3: 486ms, etc.
-        int newSpeed = Math.max(100, (int)(BASE_SPEED * Math.pow(0.9, newLevel - 1)));
-
-        timeLine.stop();
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(newSpeed),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
-
         Timeline delayTimeline = new Timeline(new KeyFrame(
                 Duration.millis(1000),
                 ae -> {
@@ -813,13 +864,7 @@ public class GuiController implements Initializable {
         levelLabel.setText("1");
 
         // Reset speed to base speed
-        timeLine.stop();
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(BASE_SPEED),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
+        onLogic(() -> gameLoop.setGravity(GameLoop.gravityForLevel(1)));
     }
     private void togglePause() {
         if (isGameOver.getValue()) return;
@@ -833,9 +878,8 @@ public class GuiController implements Initializable {
 
     private void pauseGame() {
         isPause.setValue(Boolean.TRUE);
-        timeLine.stop();
+        onLogic(gameLoop::stop);
         if (timerTimeline != null) timerTimeline.stop();
-        if (instantDropTimeline != null) instantDropTimeline.stop();
 
         soundManager.pauseMusic();
 
@@ -848,7 +892,7 @@ public class GuiController implements Initializable {
 
     private void resumeGame() {
         isPause.setValue(Boolean.FALSE);
-        timeLine.play();
+        onLogic(() -> gameLoop.resume(System.nanoTime()));
         if (timerTimeline != null) timerTimeline.play();
 
         soundManager.resumeMusic();
@@ -861,11 +905,10 @@ public class GuiController implements Initializable {
     }
 
     private void restartGame() {
-        if (timeLine != null) timeLine.stop();
+        stopReplay();
+        onLogic(gameLoop::stop);
         if (timerTimeline != null) timerTimeline.stop();
-        if (instantDropTimeline != null) instantDropTimeline.stop();
 
-        isDropping = false;
         spaceKeyPressed.setValue(false);
 
         pauseOverlay.setVisible(false);
@@ -873,16 +916,7 @@ public class GuiController implements Initializable {
         isPause.setValue(Boolean.FALSE);
         isGameOver.setValue(Boolean.FALSE);
 
-        eventListener.createNewGame();
-        ViewData viewData = eventListener.getViewData();
-        refreshBrick(viewData);
-
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(BASE_SPEED),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
+        onLogic(this::startNewGame);
 
         startTime = System.currentTimeMillis();
         timerTimeline = new Timeline(new KeyFrame(
@@ -895,11 +929,27 @@ public class GuiController implements Initializable {
         gamePanel.requestFocus();
     }
 
+    // Stops the logic thread first, so the quit handler is the last thing to touch the game
+    private void quit() {
+        if (logicThread != null) {
+            logicThread.shutdown();
+        }
+        gameLoop.stop();
+        Runnable handler = quitHandler;
+        quitHandler = null;
+        if (handler != null) {
+            handler.run();
+        }
+    }
+
     private void returnToMainMenu() {
         try {
-            if (timeLine != null) timeLine.stop();
+            stopReplay();
+            gamePanel.getScene().getWindow().setOnCloseRequest(null);
+            quit();
+            if (renderTimer != null) renderTimer.stop();
+            jvmMetrics.stop();
             if (timerTimeline != null) timerTimeline.stop();
-            if (instantDropTimeline != null) instantDropTimeline.stop();
 
             soundManager.stopMusic();
             soundManager.playMusic("/sounds/menu_music.mp3");
@@ -917,6 +967,10 @@ public class GuiController implements Initializable {
         }
     }
     public void showZenClearNotification() {
+        onFx(this::showBoardClearedNotification);
+    }
+
+    private void showBoardClearedNotification() {
         soundManager.playSound("board_clear");
         NotificationPanel zenNotif = new NotificationPanel("BOARD CLEARED!");
         javafx.scene.control.Label label = (javafx.scene.control.Label) zenNotif.getCenter();
@@ -0,0 +1,159 @@
+package com.comp2042.game.control;
+
+import com.comp2042.logic.leaderboard.Leaderboard;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Keeps the high score in memory; it is read at startup and written behind on a background thread, at most once
+ * every few seconds and straight away on {@link #flush()}, so a slow disk never stalls the game.
+ * The file is replaced atomically: a temp file in the same directory is written, then moved over it.
+ * It also owns the shared {@link Leaderboard} of every finished game.
+ */
+public class HighScoreManager {
+    private static final Path HIGH_SCORE_FILE = Paths.get("highscore.txt");
+    private static final Path LEADERBOARD_FILE = Paths.get("leaderboard.dat");
+    private static final long FLUSH_DELAY_SECONDS = 3;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 2;
+
+    private static final AtomicInteger highScore = new AtomicInteger();
+    private static final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private static final AtomicBoolean loadQueued = new AtomicBoolean();
+    private static ScheduledExecutorService writer;
+    private static Leaderboard leaderboard;
+
+    // Only touched on the writer thread
+    private static int savedScore;
+
+    // Starts reading the file on the writer thread, so no caller waits on the disk; writes queue behind it
+    public static void load() {
+        if (loadQueued.compareAndSet(false, true)) {
+            writer().execute(HighScoreManager::read);
+        }
+    }
+
+    // Hands the saved high score to the callback on the writer thread once the file has been read
+    public static void loadHighScore(IntConsumer onLoaded) {
+        load();
+        writer().execute(() -> onLoaded.accept(highScore.get()));
+    }
+
+    // Cheap enough to call on every score change; the disk write happens later on the writer thread
+    public static void saveHighScore(int score) {
+        load();
+        if (highScore.accumulateAndGet(score, Math::max) != score) {
+            return;
+        }
+        if (flushScheduled.compareAndSet(false, true)) {
+            writer().schedule(HighScoreManager::write, FLUSH_DELAY_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    // Writes any pending score now without waiting for it, e.g. on game over
+    public static void flush() {
+        writer().execute(HighScoreManager::write);
+    }
+
+    // Runs another file write on the writer thread; shutdown() waits for it like a pending score
+    public static void writeBehind(Runnable write) {
+        writer().execute(write);
+    }
+
+    // The first call starts loading the file in the background
+    public static synchronized Leaderboard getLeaderboard() {
+        if (leaderboard == null) {
+            leaderboard = new Leaderboard(LEADERBOARD_FILE);
+        }
+        return leaderboard;
+    }
+
+    // Called on exit: writes any pending score and waits briefly for the writers to finish
+    public static void shutdown() {
+        ScheduledExecutorService executor;
+        Leaderboard board;
+        synchronized (HighScoreManager.class) {
+            executor = writer;
+            writer = null;
+            board = leaderboard;
+            leaderboard = null;
+        }
+        if (board != null) {
+            board.close();
+        }
+        if (executor == null) {
+            return;
+        }
+        executor.execute(HighScoreManager::write);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("High score was not saved before exit");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static synchronized ScheduledExecutorService writer() {
+        if (writer == null) {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, task -> {
+                Thread thread = new Thread(task, "high-score-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // A delayed flush is covered by the final write queued in shutdown()
+            executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+            writer = executor;
+        }
+        return writer;
+    }
+
+    // A score beaten before the file was read stays the high score
+    private static void read() {
+        try {
+            if (Files.exists(HIGH_SCORE_FILE)) {
+                String content = Files.readString(HIGH_SCORE_FILE);
+                savedScore = Integer.parseInt(content.trim());
+                highScore.accumulateAndGet(savedScore, Math::max);
+            }
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Error loading high score: " + e.getMessage());
+        }
+    }
+
+    private static void write() {
+        flushScheduled.set(false);
+        int score = highScore.get();
+        if (score == savedScore) {
+            return;
+        }
+        Path target = HIGH_SCORE_FILE.toAbsolutePath();
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(target.getParent(), "highscore", ".tmp");
+            Files.writeString(temp, String.valueOf(score));
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            savedScore = score;
+        } catch (IOException e) {
+            System.err.println("Error saving high score: " + e.getMessage());
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // the next write tries again with a fresh temp file
+                }
+            }
+        }
+    }
+}
@@ -114,7 +114,7 @@ public class MenuController implements Initializable {
             Scene gameScene = new Scene(gameRoot, 620, 600);
             stage.setScene(gameScene);
 
-            new GameController(guiController, mode);
+            GameController.start(guiController, mode);
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -1,5 +1,6 @@
 package com.comp2042.game.control;
 
+import javafx.application.Platform;
 import javafx.scene.media.AudioClip;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
@@ -7,6 +8,8 @@ import javafx.util.Duration;
 
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class SoundManager {
 
@@ -26,6 +29,17 @@ public class SoundManager {
     private String lastMusicPath = "";
     private boolean wasPlayingPlaylist = false;
 
+    // Decoded players for the current playlist, in access order; the next track is prepared ahead
+    private static final int MAX_CACHED_PLAYERS = 3;
+    private final Map<String, MediaPlayer> playerCache = new LinkedHashMap<>(16, 0.75f, true);
+    private final ExecutorService mediaLoader = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "media-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private int nextTrackIndex = 0;
+    private int playlistGeneration;
+
     private SoundManager() {
         soundEffects = new HashMap<>();
         currentPlaylist = new ArrayList<>();
@@ -109,6 +123,10 @@ public class SoundManager {
 
         stopMusic();
 
+        if (!playlistName.equals(currentPlaylistName)) {
+            clearPlayerCache();
+        }
+        playlistGeneration++;
         currentPlaylistName = playlistName;
         currentPlaylist = new ArrayList<>(musicPaths);
         shuffleMode = shuffle;
@@ -129,83 +147,133 @@ public class SoundManager {
             index = 0;
         }
 
-        currentTrackIndex = index;
-        String trackPath = currentPlaylist.get(currentTrackIndex);
-
-        try {
-            URL resource = getClass().getResource(trackPath);
-            if (resource != null) {
-                Media media = new Media(resource.toExternalForm());
-                musicPlayer = new MediaPlayer(media);
-                musicPlayer.setVolume(musicVolume);
-
-
-                musicPlayer.setOnEndOfMedia(() -> {
-                    playNextTrackInPlaylist();
-                });
-
-                musicPlayer.play();
-            } else {
-                currentPlaylist.clear();
+        // Skip tracks that are missing or fail to load, trying each one once
+        for (int attempts = 0; attempts < currentPlaylist.size(); attempts++) {
+            MediaPlayer player = takePlayer(currentPlaylist.get(index));
+            if (player != null) {
+                startTrack(player, index);
+                return;
             }
-        } catch (Exception e) {
-            System.err.println("Error playing music: " + e.getMessage());
-            e.printStackTrace();
-
-            currentPlaylist.clear();
+            index = (index + 1) % currentPlaylist.size();
         }
+
+        System.err.println("Failed to play any tracks in playlist. Clearing playlist.");
+        currentPlaylist.clear();
+    }
+
+    private void startTrack(MediaPlayer player, int index) {
+        currentTrackIndex = index;
+        musicPlayer = player;
+        musicPlayer.setVolume(musicVolume);
+        musicPlayer.setCycleCount(1);
+        musicPlayer.setOnEndOfMedia(this::playNextTrackInPlaylist);
+        musicPlayer.seek(Duration.ZERO);
+        musicPlayer.play();
+        preloadNextTrack();
     }
 
+    // The next player was prepared while this track played, so starting it is immediate
     private void playNextTrackInPlaylist() {
         if (currentPlaylist.isEmpty()) return;
 
-        int startIndex = currentTrackIndex;
-        int attempts = 0;
-        int maxAttempts = currentPlaylist.size();
+        if (musicPlayer != null) {
+            musicPlayer.setOnEndOfMedia(null);
+            musicPlayer.stop();
+            musicPlayer = null;
+        }
+        playTrackFromPlaylist(nextTrackIndex);
+    }
 
-        while (attempts < maxAttempts) {
-            currentTrackIndex++;
+    private void preloadNextTrack() {
+        int next = currentTrackIndex + 1;
+        if (next >= currentPlaylist.size()) {
+            next = 0;
+            if (shuffleMode && currentPlaylist.size() > 1) {
+                String current = currentPlaylist.get(currentTrackIndex);
+                Collections.shuffle(currentPlaylist);
+                // Avoid playing the same track twice in a row across the reshuffle
+                if (currentPlaylist.get(0).equals(current)) {
+                    Collections.swap(currentPlaylist, 0, currentPlaylist.size() - 1);
+                }
+                currentTrackIndex = currentPlaylist.indexOf(current);
+            }
+        }
+        nextTrackIndex = next;
 
-            if (currentTrackIndex >= currentPlaylist.size()) {
-                currentTrackIndex = 0;
+        String trackPath = currentPlaylist.get(next);
+        if (playerCache.containsKey(trackPath)) {
+            return;
+        }
+        int generation = playlistGeneration;
+        // Media parses the file header when constructed, so that happens off the FX thread
+        mediaLoader.execute(() -> {
+            MediaPlayer player = createPlayer(trackPath);
+            if (player != null) {
+                Platform.runLater(() -> {
+                    if (generation == playlistGeneration && !playerCache.containsKey(trackPath)) {
+                        cachePlayer(trackPath, player);
+                    } else {
+                        player.dispose();
+                    }
+                });
+            }
+        });
+    }
 
-                if (shuffleMode) {
-                    Collections.shuffle(currentPlaylist);
-                }
+    private MediaPlayer takePlayer(String trackPath) {
+        MediaPlayer player = playerCache.get(trackPath);
+        if (player == null) {
+            player = createPlayer(trackPath);
+            if (player != null) {
+                cachePlayer(trackPath, player);
             }
+        }
+        return player;
+    }
 
-            String trackPath = currentPlaylist.get(currentTrackIndex);
-            try {
-                URL resource = getClass().getResource(trackPath);
-                if (resource != null) {
-                    Media media = new Media(resource.toExternalForm());
-                    musicPlayer = new MediaPlayer(media);
-                    musicPlayer.setVolume(musicVolume);
-
-                    musicPlayer.setOnEndOfMedia(() -> {
-                        playNextTrackInPlaylist();
-                    });
-
-                    musicPlayer.play();
-                    return;
-                } else {
-                    System.err.println("Music file not found: " + trackPath);
-                }
-            } catch (Exception e) {
-                System.err.println("Error playing music " + trackPath + ": " + e.getMessage());
+    private MediaPlayer createPlayer(String trackPath) {
+        try {
+            URL resource = getClass().getResource(trackPath);
+            if (resource != null) {
+                return new MediaPlayer(new Media(resource.toExternalForm()));
             }
+            System.err.println("Music file not found: " + trackPath);
+        } catch (Exception e) {
+            System.err.println("Error playing music " + trackPath + ": " + e.getMessage());
+        }
+        return null;
+    }
 
-            attempts++;
+    // Least recently used players beyond the limit are disposed, never the one playing
+    private void cachePlayer(String trackPath, MediaPlayer player) {
+        playerCache.put(trackPath, player);
+        Iterator<MediaPlayer> players = playerCache.values().iterator();
+        while (playerCache.size() > MAX_CACHED_PLAYERS && players.hasNext()) {
+            MediaPlayer oldest = players.next();
+            if (oldest != musicPlayer && oldest != player) {
+                players.remove();
+                oldest.dispose();
+            }
         }
+    }
 
-        System.err.println("Failed to play any tracks in playlist. Clearing playlist.");
-        currentPlaylist.clear();
+    private void clearPlayerCache() {
+        for (MediaPlayer player : playerCache.values()) {
+            if (player != musicPlayer) {
+                player.dispose();
+            }
+        }
+        playerCache.clear();
     }
 
     public void stopMusic() {
         if (musicPlayer != null) {
+            musicPlayer.setOnEndOfMedia(null);
             musicPlayer.stop();
-            musicPlayer.dispose();
+            // Playlist players stay cached so the playlist can restart without reloading
+            if (!playerCache.containsValue(musicPlayer)) {
+                musicPlayer.dispose();
+            }
             musicPlayer = null;
         }
     }
@@ -0,0 +1,18 @@
+package com.comp2042.game.ui;
+
+import com.comp2042.game.control.DirtyRegion;
+
+// Draws the playfield, falling brick, ghost, preview and hold for GuiController.
+public interface BoardRenderer {
+
+    int BRICK_SIZE = 20;
+    // The top two board rows are spawn space and never drawn
+    int HIDDEN_ROWS = 2;
+
+    void init(int[][] boardMatrix, ViewData brick);
+
+    // Redraws the dirty cells (all of them when the region is full); returns how many were repainted
+    int drawBackground(int[][] board, DirtyRegion dirty);
+
+    void drawBrick(ViewData brick);
+}
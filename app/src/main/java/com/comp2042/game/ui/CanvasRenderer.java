@@ -0,0 +1,222 @@
+package com.comp2042.game.ui;
+
+import com.comp2042.game.control.DirtyRegion;
+import javafx.geometry.Insets;
+import javafx.geometry.Point2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Region;
+
+import java.util.List;
+
+/**
+ * Draws everything onto one Canvas laid over the play area, using cell sprites rendered once
+ * per colour. The layout's board, preview and hold panes stay in place (empty) and only
+ * supply the positions to draw at. Moving the brick repaints just the cells it and its ghost
+ * covered, so the scene graph never changes while playing.
+ */
+public class CanvasRenderer implements BoardRenderer {
+
+    private static final int CELL_PITCH = BRICK_SIZE + 1;
+    private static final int PREVIEW_ROWS = 15;
+    private static final int HOLD_SIZE = 4;
+
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    private final Region boardArea;
+    private final Region previewArea;
+    private final Region holdArea;
+    private final SpriteCache sprites;
+
+    private int[][] board;
+    private ViewData lastBrick;
+    private PreviewLayout previewLayout;
+    private int[][] previewColors;
+    private final ViewVersions versions = new ViewVersions();
+    private final int[] coveredRows = new int[32];
+    private final int[] coveredCols = new int[32];
+    private int coveredCount;
+
+    private Point2D boardOrigin = Point2D.ZERO;
+    private Point2D previewOrigin = Point2D.ZERO;
+    private Point2D holdOrigin = Point2D.ZERO;
+
+    public CanvasRenderer(Canvas canvas, Region boardArea, Region previewArea, Region holdArea,
+                          Palette palette) {
+        this.canvas = canvas;
+        this.gc = canvas.getGraphicsContext2D();
+        this.boardArea = boardArea;
+        this.previewArea = previewArea;
+        this.holdArea = holdArea;
+        this.sprites = new SpriteCache(palette);
+    }
+
+    @Override
+    public void init(int[][] boardMatrix, ViewData brick) {
+        board = new int[boardMatrix.length][boardMatrix[0].length];
+        // The board pane is empty in this mode, so hold its size for the layout around it
+        boardArea.setMinSize(board[0].length * CELL_PITCH - 1, (board.length - HIDDEN_ROWS) * CELL_PITCH - 1);
+        for (int row = 0; row < board.length; row++) {
+            System.arraycopy(boardMatrix[row], 0, board[row], 0, board[row].length);
+        }
+        updateLayout();
+        repaintAll();
+        drawBrick(brick);
+    }
+
+    @Override
+    public int drawBackground(int[][] matrix, DirtyRegion dirty) {
+        versions.backgroundDrawn(dirty);
+        int repainted = 0;
+        for (int row = Math.max(HIDDEN_ROWS, dirty.getTop()); row <= Math.min(dirty.getBottom(), board.length - 1); row++) {
+            int mask = dirty.getRowMask(row);
+            for (int col = 0; mask != 0; col++, mask >>>= 1) {
+                if ((mask & 1) != 0 && (dirty.isFull() || board[row][col] != matrix[row][col])) {
+                    board[row][col] = matrix[row][col];
+                    drawCell(row, col);
+                    repainted++;
+                }
+            }
+        }
+        if (repainted > 0 && lastBrick != null) {
+            drawOverlay(lastBrick);
+        }
+        return repainted;
+    }
+
+    @Override
+    public void drawBrick(ViewData brick) {
+        boolean moved = updateLayout();
+        if (moved) {
+            repaintAll();
+        }
+        if (versions.pieceChanged(brick) || moved) {
+            drawOverlay(brick);
+        }
+        if (versions.previewChanged(brick)) {
+            drawPreview(brick.getNextBricksData());
+        }
+        if (versions.holdChanged(brick)) {
+            drawHold(brick.getHeldBrickData());
+        }
+        lastBrick = brick;
+    }
+
+    // Restores the cells the last brick and ghost covered, then draws them at their new place
+    private void drawOverlay(ViewData brick) {
+        for (int i = 0; i < coveredCount; i++) {
+            drawCell(coveredRows[i], coveredCols[i]);
+        }
+        coveredCount = 0;
+        int[][] shape = brick.getBrickData();
+        int ghostY = brick.getyPosition() + brick.getDropDistance();
+        if (ghostY != brick.getyPosition()) {
+            drawShape(shape, brick.getxPosition(), ghostY, SpriteCache.Style.GHOST);
+        }
+        drawShape(shape, brick.getxPosition(), brick.getyPosition(), SpriteCache.Style.BRICK);
+    }
+
+    private void drawShape(int[][] shape, int x, int y, SpriteCache.Style style) {
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                int row = y + i;
+                int col = x + j;
+                if (shape[i][j] != 0 && row >= HIDDEN_ROWS && row < board.length && col >= 0 && col < board[0].length) {
+                    gc.drawImage(sprites.get(style, shape[i][j]), cellX(col), cellY(row));
+                    coveredRows[coveredCount] = row;
+                    coveredCols[coveredCount] = col;
+                    coveredCount++;
+                }
+            }
+        }
+    }
+
+    private void drawCell(int row, int col) {
+        double x = cellX(col);
+        double y = cellY(row);
+        gc.clearRect(x, y, BRICK_SIZE, BRICK_SIZE);
+        if (board[row][col] != 0) {
+            gc.drawImage(sprites.get(SpriteCache.Style.CELL, board[row][col]), x, y);
+        }
+    }
+
+    private void drawPreview(List<int[][]> nextBricks) {
+        int depth = Math.max(1, nextBricks.size());
+        if (previewLayout == null || previewLayout.getDepth() != depth) {
+            previewLayout = new PreviewLayout(depth);
+            previewColors = new int[previewLayout.getRows()][PreviewLayout.COLUMNS];
+        }
+        previewLayout.fill(nextBricks, previewColors);
+
+        double x0 = previewOrigin.getX();
+        double y0 = previewOrigin.getY();
+        int pitch = previewLayout.getPitch();
+        int size = previewLayout.getCellSize();
+        gc.clearRect(x0, y0, PreviewLayout.COLUMNS * CELL_PITCH, PREVIEW_ROWS * CELL_PITCH);
+        for (int row = 0; row < previewColors.length; row++) {
+            for (int col = 0; col < PreviewLayout.COLUMNS; col++) {
+                if (previewColors[row][col] != 0) {
+                    gc.drawImage(sprites.get(SpriteCache.Style.CELL, previewColors[row][col]),
+                            x0 + col * pitch, y0 + row * pitch, size, size);
+                }
+            }
+        }
+    }
+
+    private void drawHold(int[][] heldBrick) {
+        double x0 = holdOrigin.getX();
+        double y0 = holdOrigin.getY();
+        gc.clearRect(x0, y0, HOLD_SIZE * CELL_PITCH, HOLD_SIZE * CELL_PITCH);
+        if (heldBrick == null) {
+            return;
+        }
+        int offsetX = (HOLD_SIZE - heldBrick[0].length) / 2;
+        int offsetY = (HOLD_SIZE - heldBrick.length) / 2;
+        for (int r = 0; r < heldBrick.length; r++) {
+            for (int c = 0; c < heldBrick[r].length; c++) {
+                if (heldBrick[r][c] != 0) {
+                    gc.drawImage(sprites.get(SpriteCache.Style.CELL, heldBrick[r][c]),
+                            x0 + (c + offsetX) * CELL_PITCH, y0 + (r + offsetY) * CELL_PITCH);
+                }
+            }
+        }
+    }
+
+    // Re-reads where the panes sit on the canvas; true if anything moved since the last frame
+    private boolean updateLayout() {
+        Point2D newBoard = originOf(boardArea);
+        Point2D newPreview = originOf(previewArea);
+        Point2D newHold = originOf(holdArea);
+        if (newBoard.equals(boardOrigin) && newPreview.equals(previewOrigin) && newHold.equals(holdOrigin)) {
+            return false;
+        }
+        boardOrigin = newBoard;
+        previewOrigin = newPreview;
+        holdOrigin = newHold;
+        return true;
+    }
+
+    private Point2D originOf(Region region) {
+        Insets insets = region.getInsets();
+        return canvas.sceneToLocal(region.localToScene(insets.getLeft(), insets.getTop()));
+    }
+
+    private void repaintAll() {
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        coveredCount = 0;
+        versions.reset();
+        for (int row = HIDDEN_ROWS; row < board.length; row++) {
+            for (int col = 0; col < board[row].length; col++) {
+                drawCell(row, col);
+            }
+        }
+    }
+
+    private double cellX(int col) {
+        return boardOrigin.getX() + col * CELL_PITCH;
+    }
+
+    private double cellY(int row) {
+        return boardOrigin.getY() + (row - HIDDEN_ROWS) * CELL_PITCH;
+    }
+}
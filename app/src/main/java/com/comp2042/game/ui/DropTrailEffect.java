@@ -0,0 +1,82 @@
+package com.comp2042.game.ui;
+
+import com.comp2042.game.event.DropTrail;
+import javafx.animation.FadeTransition;
+import javafx.geometry.Insets;
+import javafx.geometry.Point2D;
+import javafx.scene.Group;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.Stop;
+import javafx.scene.shape.Rectangle;
+import javafx.util.Duration;
+
+// A short-lived streak above each column of a hard-dropped brick, drawn over whichever renderer is in use.
+public class DropTrailEffect {
+
+    private static final int CELL_PITCH = BoardRenderer.BRICK_SIZE + 1;
+    private static final Duration FADE = Duration.millis(180);
+
+    private final Pane layer;
+    private final Region boardArea;
+    private final Palette palette;
+
+    public DropTrailEffect(Pane layer, Region boardArea, Palette palette) {
+        this.layer = layer;
+        this.boardArea = boardArea;
+        this.palette = palette;
+    }
+
+    public void play(DropTrail trail) {
+        if (trail == null || trail.getRows() == 0) {
+            return;
+        }
+        Insets insets = boardArea.getInsets();
+        Point2D origin = layer.sceneToLocal(boardArea.localToScene(insets.getLeft(), insets.getTop()));
+        int[][] shape = trail.getBrickData();
+        Group streaks = new Group();
+        streaks.setMouseTransparent(true);
+
+        for (int c = 0; c < shape[0].length; c++) {
+            int top = -1;
+            int color = 0;
+            for (int r = 0; r < shape.length && top < 0; r++) {
+                if (shape[r][c] != 0) {
+                    top = r;
+                    color = shape[r][c];
+                }
+            }
+            if (top < 0) {
+                continue;
+            }
+            // From where the column's top cell started down to where it landed, clipped to the visible rows
+            int startRow = Math.max(BoardRenderer.HIDDEN_ROWS, trail.getyPosition() + top);
+            int endRow = trail.getyPosition() + top + trail.getRows();
+            if (endRow <= startRow) {
+                continue;
+            }
+            Rectangle streak = new Rectangle(BoardRenderer.BRICK_SIZE, (endRow - startRow) * CELL_PITCH);
+            streak.setX(origin.getX() + (trail.getxPosition() + c) * CELL_PITCH);
+            streak.setY(origin.getY() + (startRow - BoardRenderer.HIDDEN_ROWS) * CELL_PITCH);
+            streak.setFill(new LinearGradient(0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
+                    new Stop(0, Color.TRANSPARENT), new Stop(1, toColor(palette.getHighlight(color), 0.5))));
+            streaks.getChildren().add(streak);
+        }
+
+        layer.getChildren().add(streaks);
+        FadeTransition fade = new FadeTransition(FADE, streaks);
+        fade.setFromValue(1.0);
+        fade.setToValue(0.0);
+        fade.setOnFinished(e -> layer.getChildren().remove(streaks));
+        fade.play();
+    }
+
+    private static Color toColor(Paint paint, double opacity) {
+        Color color = paint instanceof Color ? (Color) paint : Color.WHITE;
+        return color.deriveColor(0, 1, 1, opacity);
+    }
+}
@@ -1,5 +1,6 @@
 package com.comp2042.game.ui;
 
+import com.comp2042.logic.leaderboard.Standing;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
@@ -16,15 +17,16 @@ public class GameOverPanel extends StackPane {
     private final Label scoreLabel;
     private final Label highScoreLabel;
     private final Label linesLabel;
+    private final Label rankLabel;
     private Button mainMenuButton;
     private final Rectangle background;
 
     public GameOverPanel() {
-        setPrefSize(350, 450);
-        setMinSize(350, 450);
-        setMaxSize(350, 450);
+        setPrefSize(350, 490);
+        setMinSize(350, 490);
+        setMaxSize(350, 490);
 
-        background = new Rectangle(350, 450);
+        background = new Rectangle(350, 490);
         background.setArcWidth(30);
         background.setArcHeight(30);
         background.setFill(Color.rgb(0, 0, 0, 0.85));
@@ -50,6 +52,9 @@ public class GameOverPanel extends StackPane {
         linesLabel = new Label("Lines Cleared: 0");
         linesLabel.getStyleClass().add("gameOverStat");
 
+        rankLabel = new Label("Rank: -");
+        rankLabel.getStyleClass().add("gameOverStat");
+
         Label instructionLabel = new Label("Press N for New Game");
         instructionLabel.getStyleClass().add("gameOverInstruction");
 
@@ -63,6 +68,7 @@ public class GameOverPanel extends StackPane {
                 scoreLabel,
                 highScoreLabel,
                 linesLabel,
+                rankLabel,
                 instructionLabel,
                 mainMenuButton
         );
@@ -72,11 +78,19 @@ public class GameOverPanel extends StackPane {
         setVisible(true);
     }
 
+    // The rank stays blank until showStanding(), and for games that were not recorded (replays)
     public void updateStats(String time, int score, int highScore, int lines) {
         timeLabel.setText("Time: " + time);
         scoreLabel.setText("Score: " + score);
-        highScoreLabel.setText("High Score: " + highScore);
         linesLabel.setText("Lines Cleared: " + lines);
+        highScoreLabel.setText("High Score: " + highScore);
+        rankLabel.setText("Rank: -");
+    }
+
+    // Arrives shortly after updateStats(), once the leaderboard has ranked the game
+    public void showStanding(Standing standing) {
+        highScoreLabel.setText("Personal Best: " + standing.getPersonalBest());
+        rankLabel.setText("Rank: #" + standing.getRank() + " of " + standing.getGames());
     }
 
     public Button getMainMenuButton() {
@@ -0,0 +1,175 @@
+package com.comp2042.game.ui;
+
+import com.comp2042.game.event.GameMode;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Fill, ghost, highlight (falling brick) and border (ghost outline) paints for each cell value,
+ * built once per game. Themes are .properties files with keys like fill.3=#FF8800, optionally
+ * prefixed with the mode (zen.fill.3); anything missing falls back to the mode's built-in colours.
+ */
+public final class Palette {
+
+    // Cell values 0 (empty) to 7; one extra slot holds the paint for anything else
+    public static final int COLORS = 8;
+
+    private static final Palette NORMAL = new Palette("normal",
+            new Paint[]{Color.TRANSPARENT,
+                    Color.rgb(186, 104, 200),   // Light purple
+                    Color.rgb(156, 39, 176),    // Deep purple
+                    Color.rgb(123, 31, 162),    // Rich purple
+                    Color.rgb(103, 58, 183),    // Indigo-purple
+                    Color.rgb(149, 117, 205),   // Soft lavender
+                    Color.rgb(94, 53, 177),     // Medium-dark purple
+                    Color.rgb(74, 20, 140),     // Dark violet
+                    Color.WHITE},
+            new Paint[]{Color.TRANSPARENT,
+                    Color.rgb(112, 62, 120),    // ghost light purple
+                    Color.rgb(94, 23, 106),     // ghost deep purple
+                    Color.rgb(74, 19, 97),      // ghost rich purple
+                    Color.rgb(62, 35, 110),     // ghost indigo-purple
+                    Color.rgb(89, 70, 123),     // ghost soft lavender
+                    Color.rgb(56, 32, 106),     // ghost medium-dark purple
+                    Color.rgb(44, 12, 84),      // ghost dark violet
+                    Color.GRAY});
+
+    private static final Palette ZEN = new Palette("zen",
+            new Paint[]{Color.TRANSPARENT,
+                    Color.rgb(77, 208, 225),    // Cyan
+                    Color.rgb(100, 181, 246),   // Light blue
+                    Color.rgb(38, 198, 218),    // Teal
+                    Color.rgb(128, 222, 234),   // Pale cyan
+                    Color.rgb(0, 188, 212),     // Dark cyan
+                    Color.rgb(77, 182, 172),    // Teal-green
+                    Color.rgb(38, 166, 154),    // Sea green
+                    Color.WHITE},
+            new Paint[]{Color.TRANSPARENT,
+                    Color.rgb(38, 104, 113),    // Dark cyan
+                    Color.rgb(50, 90, 123),     // Dark light blue
+                    Color.rgb(19, 99, 109),     // Dark teal
+                    Color.rgb(64, 111, 117),    // Dark pale cyan
+                    Color.rgb(0, 94, 106),      // Very dark cyan
+                    Color.rgb(38, 91, 86),      // Dark teal-green
+                    Color.rgb(19, 83, 77),      // Dark sea green
+                    Color.GRAY});
+
+    private final String name;
+    private final Paint[] fill;
+    private final Paint[] ghost;
+    private final Paint[] highlight;
+    private final Paint[] border;
+
+    private Palette(String name, Paint[] fill, Paint[] ghost) {
+        this(name, fill, ghost, fill.clone(), whiteBorders());
+    }
+
+    private Palette(String name, Paint[] fill, Paint[] ghost, Paint[] highlight, Paint[] border) {
+        this.name = name;
+        this.fill = fill;
+        this.ghost = ghost;
+        this.highlight = highlight;
+        this.border = border;
+    }
+
+    public static Palette forMode(GameMode mode) {
+        return mode == GameMode.ZEN ? ZEN : NORMAL;
+    }
+
+    // The named theme for this mode, or the built-in palette if there is none or it cannot be read
+    public static Palette resolve(String theme, GameMode mode) {
+        if (theme == null || theme.isBlank()) {
+            return forMode(mode);
+        }
+        try {
+            return load(theme, mode);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error loading theme " + theme + ": " + e.getMessage());
+            return forMode(mode);
+        }
+    }
+
+    // A theme file path, or the name of a theme bundled under /themes
+    public static Palette load(String theme, GameMode mode) throws IOException {
+        Properties properties = new Properties();
+        Path file = Paths.get(theme);
+        if (Files.isRegularFile(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+        } else {
+            try (InputStream in = Palette.class.getResourceAsStream("/themes/" + theme + ".properties")) {
+                if (in == null) {
+                    throw new IOException("no such theme file or bundled theme");
+                }
+                properties.load(in);
+            }
+        }
+        return fromProperties(properties, mode);
+    }
+
+    static Palette fromProperties(Properties properties, GameMode mode) {
+        Palette base = forMode(mode);
+        String prefix = mode.name().toLowerCase(Locale.ROOT) + ".";
+        Paint[] fill = base.fill.clone();
+        Paint[] ghost = base.ghost.clone();
+        Paint[] highlight = base.highlight.clone();
+        Paint[] border = base.border.clone();
+        for (int value = 1; value < COLORS; value++) {
+            fill[value] = read(properties, prefix, "fill." + value, fill[value]);
+            ghost[value] = read(properties, prefix, "ghost." + value, ghost[value]);
+            // Without its own highlight the falling brick keeps the theme's fill
+            highlight[value] = read(properties, prefix, "highlight." + value, fill[value]);
+            border[value] = read(properties, prefix, "border." + value, read(properties, prefix, "border", border[value]));
+        }
+        return new Palette(properties.getProperty("name", base.name), fill, ghost, highlight, border);
+    }
+
+    private static Paint read(Properties properties, String prefix, String key, Paint fallback) {
+        String value = properties.getProperty(prefix + key, properties.getProperty(key));
+        return value != null ? Color.web(value.trim()) : fallback;
+    }
+
+    private static Paint[] whiteBorders() {
+        Paint[] border = new Paint[COLORS + 1];
+        for (int i = 0; i < border.length; i++) {
+            border[i] = i == 0 ? Color.TRANSPARENT : Color.WHITE;
+        }
+        return border;
+    }
+
+    // Index into the tables: cell values outside 0..7 share the last slot
+    static int slot(int value) {
+        return value >= 0 && value < COLORS ? value : COLORS;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Paint getFill(int value) {
+        return fill[slot(value)];
+    }
+
+    public Paint getGhost(int value) {
+        return ghost[slot(value)];
+    }
+
+    public Paint getHighlight(int value) {
+        return highlight[slot(value)];
+    }
+
+    public Paint getBorder(int value) {
+        return border[slot(value)];
+    }
+}
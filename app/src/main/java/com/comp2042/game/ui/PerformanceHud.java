@@ -0,0 +1,90 @@
+package com.comp2042.game.ui;
+
+import com.comp2042.logic.metrics.HistogramSnapshot;
+import com.comp2042.logic.metrics.MetricsRegistry;
+import javafx.scene.control.Label;
+
+import java.util.Map;
+
+/**
+ * Overlay with the frame pipeline's numbers over the last quarter second: pulse rate and jitter, tick
+ * and render times, input latency, repainted cells, allocation rate and GC pauses. It only reads
+ * registry snapshots, so showing it costs one small text update four times a second.
+ */
+public final class PerformanceHud extends Label {
+
+    public static final String PULSE = "fx.pulse.nanos";
+    public static final String TICK = "logic.tick.nanos";
+    public static final String RENDER = "render.nanos";
+    public static final String INPUT_LATENCY = "input.latency.nanos";
+    public static final String REPAINTED_CELLS = "render.repainted.cells";
+    public static final String ALLOCATED = "jvm.allocated.bytes";
+    public static final String GC_PAUSE = "jvm.gc.pause.nanos";
+
+    private static final long REFRESH_NANOS = 250_000_000L;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+    private final MetricsRegistry metrics;
+    private Map<String, HistogramSnapshot> previous;
+    private long previousNanos;
+
+    public PerformanceHud(MetricsRegistry metrics) {
+        this.metrics = metrics;
+        setStyle("-fx-font-family: 'Monospaced'; -fx-font-size: 11px; -fx-text-fill: #E0E0E0; "
+                + "-fx-background-color: rgba(0, 0, 0, 0.7); -fx-padding: 6;");
+        setMouseTransparent(true);
+        setVisible(false);
+    }
+
+    public void toggle() {
+        setVisible(!isVisible());
+        if (isVisible()) {
+            toFront();
+        }
+    }
+
+    // Called every pulse; does nothing while hidden or until the next refresh is due
+    public void refresh(long nowNanos) {
+        if (!isVisible() || (previous != null && nowNanos - previousNanos < REFRESH_NANOS)) {
+            return;
+        }
+        Map<String, HistogramSnapshot> current = metrics.snapshot();
+        if (previous != null) {
+            setText(format(current, (nowNanos - previousNanos) / 1e9));
+        }
+        previous = current;
+        previousNanos = nowNanos;
+    }
+
+    private String format(Map<String, HistogramSnapshot> current, double seconds) {
+        HistogramSnapshot pulse = interval(current, PULSE);
+        HistogramSnapshot tick = interval(current, TICK);
+        HistogramSnapshot allocated = interval(current, ALLOCATED);
+        HistogramSnapshot gc = interval(current, GC_PAUSE);
+        HistogramSnapshot cells = interval(current, REPAINTED_CELLS);
+        return String.format("FPS %5.1f  %s%n", pulse.getCount() / seconds, timings("pulse", pulse))
+                + String.format("TPS %5.1f  %s%n", tick.getCount() / seconds, timings("tick", tick))
+                + timings("render", interval(current, RENDER)) + "\n"
+                + timings("input", interval(current, INPUT_LATENCY)) + "\n"
+                + String.format("cells/frame p99 %d max %d%n", cells.getPercentile(99), cells.getMax())
+                + String.format("alloc %.1f MB/s  gc %d pauses max %.1f ms",
+                        allocated.getTotal() / BYTES_PER_MB / seconds, gc.getCount(), gc.getMax() / NANOS_PER_MILLI);
+    }
+
+    private HistogramSnapshot interval(Map<String, HistogramSnapshot> current, String name) {
+        HistogramSnapshot now = current.get(name);
+        HistogramSnapshot before = previous.get(name);
+        if (now == null) {
+            return metrics.histogram(name).snapshot();
+        }
+        return before != null ? now.since(before) : now;
+    }
+
+    private static String timings(String label, HistogramSnapshot snapshot) {
+        return String.format("%-6s mean %5.2f p99 %5.2f max %5.2f ms", label,
+                snapshot.getMean() / NANOS_PER_MILLI,
+                snapshot.getPercentile(99) / NANOS_PER_MILLI,
+                snapshot.getMax() / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,76 @@
+package com.comp2042.game.ui;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Where the upcoming bricks sit in the Next panel. Up to three bricks keep the roomy five-row slots;
+// deeper queues use three-row slots and smaller cells so the panel never grows.
+final class PreviewLayout {
+
+    static final int COLUMNS = 5;
+    private static final int PANEL_ROWS = 15;
+    private static final int FULL_PITCH = BoardRenderer.BRICK_SIZE + 1;
+    private static final int ROOMY_DEPTH = 3;
+
+    private final int depth;
+    private final int slotRows;
+    private final int pitch;
+
+    PreviewLayout(int depth) {
+        this.depth = depth;
+        this.slotRows = depth <= ROOMY_DEPTH ? 5 : 3;
+        this.pitch = Math.min(FULL_PITCH, PANEL_ROWS * FULL_PITCH / (depth * slotRows));
+    }
+
+    int getDepth() {
+        return depth;
+    }
+
+    int getRows() {
+        return depth * slotRows;
+    }
+
+    int getPitch() {
+        return pitch;
+    }
+
+    int getCellSize() {
+        return pitch - 1;
+    }
+
+    // Writes each brick, trimmed to its filled cells and centred in its slot, into a getRows() x COLUMNS grid
+    void fill(List<int[][]> bricks, int[][] target) {
+        for (int[] row : target) {
+            Arrays.fill(row, 0);
+        }
+        for (int index = 0; index < Math.min(depth, bricks.size()); index++) {
+            int[][] brickData = bricks.get(index);
+
+            int minRow = Integer.MAX_VALUE, maxRow = -1, minCol = Integer.MAX_VALUE, maxCol = -1;
+            for (int r = 0; r < brickData.length; r++) {
+                for (int c = 0; c < brickData[r].length; c++) {
+                    if (brickData[r][c] != 0) {
+                        minRow = Math.min(minRow, r);
+                        maxRow = Math.max(maxRow, r);
+                        minCol = Math.min(minCol, c);
+                        maxCol = Math.max(maxCol, c);
+                    }
+                }
+            }
+
+            if (maxRow < 0) continue;
+
+            int colOffset = Math.max(0, (COLUMNS - (maxCol - minCol + 1)) / 2);
+            int rowOffset = Math.max(0, (slotRows - 1 - (maxRow - minRow + 1)) / 2);
+            for (int r = minRow; r <= maxRow; r++) {
+                for (int c = minCol; c <= maxCol; c++) {
+                    int row = index * slotRows + rowOffset + (r - minRow);
+                    int col = colOffset + (c - minCol);
+                    if (brickData[r][c] != 0 && row < (index + 1) * slotRows && col < COLUMNS) {
+                        target[row][col] = brickData[r][c];
+                    }
+                }
+            }
+        }
+    }
+}
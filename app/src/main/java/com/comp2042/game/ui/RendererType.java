@@ -0,0 +1,20 @@
+package com.comp2042.game.ui;
+
+import java.util.Locale;
+
+// Chosen at startup with --renderer=canvas (or -Dtetris.renderer=canvas); nodes are the default.
+public enum RendererType {
+    NODES, CANVAS;
+
+    public static RendererType parse(String name) {
+        if (name == null) {
+            return NODES;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown renderer " + name + ", using " + NODES);
+            return NODES;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.comp2042.game.ui;
+
+import com.comp2042.game.control.DirtyRegion;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.StrokeType;
+
+import java.util.List;
+
+// One Rectangle node per board cell, with the brick and ghost rectangles moved around the grid.
+public class SceneGraphRenderer implements BoardRenderer {
+
+    private static final int GAME_BOARD_OFFSET_X = 180;
+    private static final int GAME_BOARD_OFFSET_Y = 30;
+    private static final int HOLD_SIZE = 4;
+
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+    private final GridPane nextBrickGrid;
+    private final GridPane heldBrickGrid;
+    private final Palette palette;
+
+    private Rectangle[][] displayMatrix;
+    private int[][] shownColors;
+    private Rectangle[][] rectangles;
+    private Rectangle[][] shadowRectangles;
+    private Rectangle[][] holdCells;
+    private Rectangle[][] previewCells;
+    private int[][] previewColors;
+    private int[][] nextPreviewColors;
+    private PreviewLayout previewLayout;
+    private final ViewVersions versions = new ViewVersions();
+
+    public SceneGraphRenderer(GridPane gamePanel, GridPane brickPanel, GridPane nextBrickGrid, GridPane heldBrickGrid,
+                              Palette palette) {
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+        this.nextBrickGrid = nextBrickGrid;
+        this.heldBrickGrid = heldBrickGrid;
+        this.palette = palette;
+    }
+
+    @Override
+    public void init(int[][] boardMatrix, ViewData brick) {
+        shadowRectangles = new Rectangle[4][4];
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                shadowRectangles[i][j] = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                shadowRectangles[i][j].setFill(Color.TRANSPARENT);
+                shadowRectangles[i][j].setArcWidth(6);
+                shadowRectangles[i][j].setArcHeight(6);
+                shadowRectangles[i][j].setOpacity(0.35);
+            }
+        }
+
+        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        shownColors = new int[boardMatrix.length][boardMatrix[0].length];
+        for (int i = HIDDEN_ROWS; i < boardMatrix.length; i++) {
+            for (int j = 0; j < boardMatrix[i].length; j++) {
+                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                rectangle.setFill(palette.getFill(boardMatrix[i][j]));
+                rectangle.setArcHeight(9);
+                rectangle.setArcWidth(9);
+                shownColors[i][j] = boardMatrix[i][j];
+                displayMatrix[i][j] = rectangle;
+                gamePanel.add(rectangle, j, i - HIDDEN_ROWS);
+            }
+        }
+
+        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
+        for (int i = 0; i < brick.getBrickData().length; i++) {
+            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                rectangle.setFill(palette.getHighlight(brick.getBrickData()[i][j]));
+                rectangles[i][j] = rectangle;
+                brickPanel.add(rectangle, j, i);
+            }
+        }
+        positionBrickPanel(brick);
+
+        initHoldGrid();
+        versions.reset();
+    }
+
+    private void initHoldGrid() {
+        heldBrickGrid.getChildren().clear();
+        holdCells = new Rectangle[HOLD_SIZE][HOLD_SIZE];
+        for (int r = 0; r < HOLD_SIZE; r++) {
+            for (int c = 0; c < HOLD_SIZE; c++) {
+                holdCells[r][c] = createPanelCell(BRICK_SIZE);
+                heldBrickGrid.add(holdCells[r][c], c, r);
+            }
+        }
+    }
+
+    private void updateHoldGrid(int[][] heldBrick) {
+        for (Rectangle[] row : holdCells) {
+            for (Rectangle cell : row) {
+                cell.setFill(Color.TRANSPARENT);
+            }
+        }
+
+        if (heldBrick != null) {
+            int offsetX = (HOLD_SIZE - heldBrick[0].length) / 2;
+            int offsetY = (HOLD_SIZE - heldBrick.length) / 2;
+
+            for (int r = 0; r < heldBrick.length; r++) {
+                for (int c = 0; c < heldBrick[r].length; c++) {
+                    int gridRow = r + offsetY;
+                    int gridCol = c + offsetX;
+                    if (heldBrick[r][c] != 0 && gridRow < HOLD_SIZE && gridCol < HOLD_SIZE) {
+                        holdCells[gridRow][gridCol].setFill(palette.getFill(heldBrick[r][c]));
+                    }
+                }
+            }
+        }
+    }
+
+    private void positionBrickPanel(ViewData brick) {
+        double xPos = GAME_BOARD_OFFSET_X + 11.5 + brick.getxPosition() * (BRICK_SIZE + 1);
+        double yPos = GAME_BOARD_OFFSET_Y + brick.getyPosition() * (BRICK_SIZE + 1) - 4;
+        brickPanel.setLayoutX(xPos);
+        brickPanel.setLayoutY(yPos);
+    }
+
+    // Rebuilt only when the preview depth changes
+    private void initPreviewGrid(int depth) {
+        previewLayout = new PreviewLayout(depth);
+        int rows = previewLayout.getRows();
+        nextBrickGrid.getChildren().clear();
+        previewCells = new Rectangle[rows][PreviewLayout.COLUMNS];
+        previewColors = new int[rows][PreviewLayout.COLUMNS];
+        nextPreviewColors = new int[rows][PreviewLayout.COLUMNS];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < PreviewLayout.COLUMNS; col++) {
+                previewCells[row][col] = createPanelCell(previewLayout.getCellSize());
+                nextBrickGrid.add(previewCells[row][col], col, row);
+            }
+        }
+    }
+
+    private Rectangle createPanelCell(int size) {
+        Rectangle rec = new Rectangle(size, size);
+        rec.setFill(Color.TRANSPARENT);
+        rec.setArcWidth(9);
+        rec.setArcHeight(9);
+        return rec;
+    }
+
+    @Override
+    public void drawBrick(ViewData brick) {
+        if (versions.pieceChanged(brick)) {
+            for (Rectangle[] row : rectangles) {
+                for (Rectangle r : row) {
+                    gamePanel.getChildren().remove(r);
+                    r.setFill(Color.TRANSPARENT);
+                }
+            }
+
+            for (int i = 0; i < brick.getBrickData().length; i++) {
+                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+                    if (brick.getBrickData()[i][j] != 0) {
+                        int gridX = brick.getxPosition() + j;
+                        int gridY = brick.getyPosition() + i;
+                        if (gridY >= HIDDEN_ROWS && gridY < displayMatrix.length) {
+                            rectangles[i][j].setFill(palette.getHighlight(brick.getBrickData()[i][j]));
+                            rectangles[i][j].setArcWidth(6);
+                            rectangles[i][j].setArcHeight(6);
+                            gamePanel.add(rectangles[i][j], gridX, gridY - HIDDEN_ROWS);
+                        }
+                    }
+                }
+            }
+
+            updateShadow(brick);
+        }
+
+        if (versions.previewChanged(brick)) {
+            updatePreviewGrid(brick.getNextBricksData());
+        }
+        if (versions.holdChanged(brick)) {
+            updateHoldGrid(brick.getHeldBrickData());
+        }
+    }
+
+    private void updatePreviewGrid(List<int[][]> nextBricks) {
+        int depth = Math.max(1, nextBricks.size());
+        if (previewLayout == null || previewLayout.getDepth() != depth) {
+            initPreviewGrid(depth);
+        }
+        previewLayout.fill(nextBricks, nextPreviewColors);
+        for (int row = 0; row < previewCells.length; row++) {
+            for (int col = 0; col < PreviewLayout.COLUMNS; col++) {
+                if (nextPreviewColors[row][col] != previewColors[row][col]) {
+                    previewCells[row][col].setFill(palette.getFill(nextPreviewColors[row][col]));
+                }
+            }
+        }
+        int[][] swap = previewColors;
+        previewColors = nextPreviewColors;
+        nextPreviewColors = swap;
+    }
+
+    @Override
+    public int drawBackground(int[][] board, DirtyRegion dirty) {
+        versions.backgroundDrawn(dirty);
+        int repainted = 0;
+        for (int i = Math.max(HIDDEN_ROWS, dirty.getTop()); i <= Math.min(dirty.getBottom(), board.length - 1); i++) {
+            int mask = dirty.getRowMask(i);
+            for (int j = 0; mask != 0; j++, mask >>>= 1) {
+                // Rows shifted by a clear are marked whole; cells that kept their colour are skipped
+                if ((mask & 1) != 0 && (dirty.isFull() || shownColors[i][j] != board[i][j])) {
+                    shownColors[i][j] = board[i][j];
+                    displayMatrix[i][j].setFill(palette.getFill(board[i][j]));
+                    repainted++;
+                }
+            }
+        }
+        return repainted;
+    }
+
+    private void updateShadow(ViewData brick) {
+        // Clear old shadow pieces - REMOVE from gamePanel first
+        for (int i = 0; i < shadowRectangles.length; i++) {
+            for (int j = 0; j < shadowRectangles[i].length; j++) {
+                gamePanel.getChildren().remove(shadowRectangles[i][j]);
+                shadowRectangles[i][j].setFill(Color.TRANSPARENT);
+            }
+        }
+
+        // Calculate shadow Y position
+        int shadowYPosition = brick.getyPosition() + brick.getDropDistance();
+
+        // Only draw shadow if it's different from current position
+        if (shadowYPosition != brick.getyPosition()) {
+            for (int i = 0; i < brick.getBrickData().length; i++) {
+                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+                    if (brick.getBrickData()[i][j] != 0) {
+                        int gridX = brick.getxPosition() + j;
+                        int gridY = shadowYPosition + i;
+                        if (gridY >= HIDDEN_ROWS && gridY < displayMatrix.length) {
+                            shadowRectangles[i][j].setFill(palette.getGhost(brick.getBrickData()[i][j]));
+                            shadowRectangles[i][j].setArcHeight(6);
+                            shadowRectangles[i][j].setArcWidth(6);
+                            shadowRectangles[i][j].setOpacity(0.35);
+                            shadowRectangles[i][j].setStroke(palette.getBorder(brick.getBrickData()[i][j]));
+                            shadowRectangles[i][j].setStrokeWidth(1);
+                            shadowRectangles[i][j].setStrokeType(StrokeType.INSIDE);
+                            gamePanel.add(shadowRectangles[i][j], gridX, gridY - HIDDEN_ROWS);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
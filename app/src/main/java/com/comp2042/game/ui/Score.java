@@ -13,12 +13,11 @@ public final class Score {
     }
     public IntegerProperty linesClearedProperty() {return linesCleared;}
 
-    public void add(int i){
-        score.setValue(score.getValue() + i);
+    public void update(int newScore, int lines) {
+        score.setValue(newScore);
+        linesCleared.setValue(lines);
     }
 
-    public void addLines(int lines) {linesCleared.setValue(linesCleared.getValue() + lines);}
-
     public int getLinesCleared() {return linesCleared.getValue();}
 
     public void reset() {
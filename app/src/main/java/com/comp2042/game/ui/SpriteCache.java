@@ -0,0 +1,60 @@
+package com.comp2042.game.ui;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+// Rounded cell images rendered once per palette entry and style, so drawing a cell is a single blit.
+final class SpriteCache {
+
+    enum Style {
+        CELL, BRICK, GHOST
+    }
+
+    private static final double GHOST_OPACITY = 0.35;
+
+    private final Palette palette;
+    private final Image[][] images = new Image[Style.values().length][Palette.COLORS + 1];
+
+    SpriteCache(Palette palette) {
+        this.palette = palette;
+    }
+
+    Image get(Style style, int value) {
+        Image[] row = images[style.ordinal()];
+        int slot = Palette.slot(value);
+        if (row[slot] == null) {
+            row[slot] = render(style, value);
+        }
+        return row[slot];
+    }
+
+    private Image render(Style style, int value) {
+        int size = BoardRenderer.BRICK_SIZE;
+        Canvas scratch = new Canvas(size, size);
+        GraphicsContext g = scratch.getGraphicsContext2D();
+        switch (style) {
+            case GHOST:
+                g.setGlobalAlpha(GHOST_OPACITY);
+                g.setFill(palette.getGhost(value));
+                g.fillRoundRect(0, 0, size, size, 6, 6);
+                g.setStroke(palette.getBorder(value));
+                g.setLineWidth(1);
+                g.strokeRoundRect(0.5, 0.5, size - 1, size - 1, 6, 6);
+                break;
+            case BRICK:
+                g.setFill(palette.getHighlight(value));
+                g.fillRoundRect(0, 0, size, size, 6, 6);
+                break;
+            default:
+                g.setFill(palette.getFill(value));
+                g.fillRoundRect(0, 0, size, size, 9, 9);
+                break;
+        }
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return scratch.snapshot(parameters, null);
+    }
+}
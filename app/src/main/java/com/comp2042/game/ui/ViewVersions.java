@@ -0,0 +1,53 @@
+package com.comp2042.game.ui;
+
+import com.comp2042.game.control.DirtyRegion;
+
+// The version stamps of the last ViewData a renderer drew, so each part is only redrawn when its stamp moves.
+final class ViewVersions {
+
+    private long piece = -1;
+    private long field = -1;
+    private long preview = -1;
+    private long hold = -1;
+
+    // The brick and its ghost only change when the piece moves or the stack under it does
+    boolean pieceChanged(ViewData brick) {
+        if (brick.getPieceVersion() == piece && brick.getFieldVersion() == field) {
+            return false;
+        }
+        piece = brick.getPieceVersion();
+        field = brick.getFieldVersion();
+        return true;
+    }
+
+    // The panels only change when a brick leaves the queue or the hold swaps
+    boolean previewChanged(ViewData brick) {
+        if (brick.getNextBricksVersion() == preview) {
+            return false;
+        }
+        preview = brick.getNextBricksVersion();
+        return true;
+    }
+
+    boolean holdChanged(ViewData brick) {
+        if (brick.getHeldBrickVersion() == hold) {
+            return false;
+        }
+        hold = brick.getHeldBrickVersion();
+        return true;
+    }
+
+    // A full region means a new board, whose stamps start over, so the next brick redraws every part
+    void backgroundDrawn(DirtyRegion dirty) {
+        if (dirty.isFull()) {
+            reset();
+        }
+    }
+
+    void reset() {
+        piece = -1;
+        field = -1;
+        preview = -1;
+        hold = -1;
+    }
+}
@@ -0,0 +1,28 @@
+package com.comp2042.benchmarks;
+
+// Fixed stacks for the benchmarks: every filled row has one gap so nothing clears on load.
+public enum BoardFixture {
+    EMPTY(0),
+    HALF_FULL(12),
+    TALL_STACK(19);
+
+    private final int filledRows;
+
+    BoardFixture(int filledRows) {
+        this.filledRows = filledRows;
+    }
+
+    public int[][] build(int rows, int columns) {
+        int[][] matrix = new int[rows][columns];
+        for (int i = 0; i < filledRows; i++) {
+            int row = rows - 1 - i;
+            int gap = (i * 3) % columns;
+            for (int col = 0; col < columns; col++) {
+                if (col != gap) {
+                    matrix[row][col] = 1 + (row + col) % 7;
+                }
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,92 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.game.control.Board;
+import com.comp2042.game.control.BoardType;
+import com.comp2042.game.control.GameEngine;
+import com.comp2042.game.control.MatrixOperations;
+import com.comp2042.game.event.ClearRow;
+import com.comp2042.game.event.GameMode;
+import com.comp2042.game.ui.ViewData;
+import com.comp2042.logic.bricks.ShapeState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single engine operations against a fixed board. The brick is the first one from a seeded
+ * generator, sitting at its spawn position above the fixture's stack. The board operations run on
+ * each Board implementation; BenchmarkRunner reports their bytes/op alongside ops/s.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+    private static final long SEED = 2042L;
+
+    @Param({"EMPTY", "HALF_FULL", "TALL_STACK"})
+    private BoardFixture fixture;
+
+    @Param({"SIMPLE", "BITS"})
+    private BoardType boardType;
+
+    private Board board;
+    private int[][] matrix;
+    private ShapeState shape;
+    private int x;
+    private int landingY;
+
+    @Setup
+    public void setUp() {
+        board = boardType.create(GameEngine.BOARD_ROWS, GameEngine.BOARD_COLUMNS, GameMode.NORMAL, SEED);
+        board.createNewBrick();
+        board.loadBoard(fixture.build(GameEngine.BOARD_ROWS, GameEngine.BOARD_COLUMNS));
+        matrix = board.getBoardMatrix();
+        shape = board.getCurrentState();
+        x = board.getBrickX();
+        landingY = board.getBrickY() + board.dropDistance();
+    }
+
+    @Benchmark
+    public boolean intersect() {
+        return MatrixOperations.intersect(matrix, shape, x, landingY + 1);
+    }
+
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(matrix, shape, x, landingY);
+    }
+
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(matrix);
+    }
+
+    @Benchmark
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    @Benchmark
+    public int dropDistance() {
+        return board.dropDistance();
+    }
+
+    @Benchmark
+    public boolean rotateLeftBrick() {
+        return board.rotateLeftBrick();
+    }
+}
@@ -0,0 +1,49 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.game.control.BoardType;
+import com.comp2042.game.event.GameMode;
+import com.comp2042.logic.sim.GameResult;
+import com.comp2042.logic.sim.RandomPolicy;
+import com.comp2042.logic.sim.SimulationRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// One whole game from a fixed seed and scripted policy, so every run plays the same pieces.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameBenchmark {
+
+    private static final long SEED = 2042L;
+    private static final int MAX_PIECES = 500;
+
+    @Param({"SIMPLE", "BITS"})
+    private BoardType boardType;
+
+    private SimulationRunner runner;
+
+    @Setup
+    public void setUp() {
+        runner = new SimulationRunner(1, SEED, MAX_PIECES, SimulationRunner.boards(boardType, GameMode.NORMAL),
+                RandomPolicy::new);
+    }
+
+    @Benchmark
+    public GameResult scriptedGame() {
+        return runner.playGame(0);
+    }
+}
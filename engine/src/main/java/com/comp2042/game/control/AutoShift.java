@@ -0,0 +1,105 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.event.EventType;
+
+// Delayed auto-shift and auto-repeat for held LEFT/RIGHT keys, plus the soft drop key state, counted in logic ticks.
+final class AutoShift {
+
+    // Returned by tick() when ARR is 0: shift all the way in one go
+    static final int TO_WALL = -1;
+
+    private int dasTicks;
+    private int arrTicks;
+    private boolean leftHeld;
+    private boolean rightHeld;
+    private boolean softDropHeld;
+    private EventType active;
+    private int chargeTicks;
+
+    AutoShift(int dasTicks, int arrTicks) {
+        setTiming(dasTicks, arrTicks);
+    }
+
+    void setTiming(int dasTicks, int arrTicks) {
+        this.dasTicks = Math.max(0, dasTicks);
+        this.arrTicks = Math.max(0, arrTicks);
+    }
+
+    // The most recently pressed direction wins and starts charging from zero
+    void press(EventType type) {
+        switch (type) {
+            case LEFT:
+                leftHeld = true;
+                charge(EventType.LEFT);
+                break;
+            case RIGHT:
+                rightHeld = true;
+                charge(EventType.RIGHT);
+                break;
+            case DOWN:
+                softDropHeld = true;
+                break;
+            default:
+                break;
+        }
+    }
+
+    // Letting go of the active direction hands over to the other one if it is still held
+    void release(EventType type) {
+        switch (type) {
+            case LEFT:
+                leftHeld = false;
+                if (active == EventType.LEFT) {
+                    charge(rightHeld ? EventType.RIGHT : null);
+                }
+                break;
+            case RIGHT:
+                rightHeld = false;
+                if (active == EventType.RIGHT) {
+                    charge(leftHeld ? EventType.LEFT : null);
+                }
+                break;
+            case DOWN:
+                softDropHeld = false;
+                break;
+            default:
+                break;
+        }
+    }
+
+    void reset() {
+        leftHeld = false;
+        rightHeld = false;
+        softDropHeld = false;
+        charge(null);
+    }
+
+    // Cells to move the active direction this tick: 0, 1 or TO_WALL
+    int tick() {
+        if (active == null) {
+            return 0;
+        }
+        // Ticks since the press, so a DAS of 0 repeats on the press tick itself
+        int elapsed = chargeTicks++;
+        if (elapsed < dasTicks) {
+            return 0;
+        }
+        if (arrTicks == 0) {
+            return TO_WALL;
+        }
+        return (elapsed - dasTicks) % arrTicks == 0 ? 1 : 0;
+    }
+
+    EventType getActive() {
+        return active;
+    }
+
+    boolean isSoftDropHeld() {
+        return softDropHeld;
+    }
+
+    private void charge(EventType direction) {
+        active = direction;
+        chargeTicks = 0;
+    }
+}
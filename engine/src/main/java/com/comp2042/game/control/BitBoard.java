@@ -0,0 +1,419 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.event.ClearRow;
+import com.comp2042.game.event.GameMode;
+import com.comp2042.game.ui.ViewData;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.ShapeState;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Board that keeps each row as an occupancy bitmask plus a packed 4-bit colour plane.
+ * The int[][] returned by getBoardMatrix() is only rebuilt when the GUI asks for it.
+ */
+public class BitBoard implements Board {
+
+    // Column c of the playfield lives at bit (c + GUARD); every other bit is wall.
+    private static final int GUARD = 4;
+    private static final int COLOR_BITS = 4;
+    private static final long COLOR_MASK = 0xFL;
+    private static final int FULL_ROW = -1;
+    private static final long NIBBLE_LOW_BITS = 0x1111_1111_1111_1111L;
+
+    private final int width;
+    private final int height;
+    private final int emptyRow;
+    private final int[] occupancy;
+    private final long[] colors;
+    private final int[][] boardView;
+    private int dirtyTop;
+    private int dirtyBottom;
+    private final ClearRow clearRow;
+    private final HeightMap heightMap;
+    private final DirtyRegion dirtyRegion;
+    private int lockedTop;
+    private int lockedBottom = -1;
+
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private ShapeState piece;
+    private int offsetX;
+    private int offsetY;
+    private final GameScore score;
+    private Brick heldBrick = null;
+    private long holdVersion;
+    private final PreviewCache preview = new PreviewCache();
+    private final ViewCache viewCache = new ViewCache();
+    private final IntSupplier dropDistance = this::dropDistance;
+    private boolean hasSwapped = false;
+    private final GameMode gameMode;
+
+    public BitBoard(int width, int height, GameMode mode) {
+        this(width, height, mode, new RandomBrickGenerator());
+    }
+
+    public BitBoard(int width, int height, GameMode mode, long seed) {
+        this(width, height, mode, new RandomBrickGenerator(seed));
+    }
+
+    public BitBoard(int width, int height, GameMode mode, BrickGenerator brickGenerator) {
+        if (height > Long.SIZE / COLOR_BITS) {
+            throw new IllegalArgumentException("BitBoard supports at most " + Long.SIZE / COLOR_BITS + " columns");
+        }
+        this.width = width;
+        this.height = height;
+        this.gameMode = mode;
+        emptyRow = ~(((1 << height) - 1) << GUARD);
+        occupancy = new int[width];
+        colors = new long[width];
+        boardView = new int[width][height];
+        dirtyBottom = width - 1;
+        clearRow = new ClearRow(width);
+        heightMap = new HeightMap(width, height, (row, col) -> (occupancy[row] & (1 << (col + GUARD))) != 0);
+        dirtyRegion = new DirtyRegion(width, height);
+        Arrays.fill(occupancy, emptyRow);
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        score = new GameScore();
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        if (collides(piece, offsetX, offsetY + 1)) {
+            return false;
+        }
+        offsetY++;
+        return true;
+    }
+
+    @Override
+    public int dropBrick() {
+        int rows = dropDistance();
+        offsetY += rows;
+        return rows;
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        if (collides(piece, offsetX - 1, offsetY)) {
+            return false;
+        }
+        offsetX--;
+        return true;
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        if (collides(piece, offsetX + 1, offsetY)) {
+            return false;
+        }
+        offsetX++;
+        return true;
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        ShapeState nextShape = brickRotator.getNextState();
+
+        for (int dx : BrickRotator.KICKS) {
+            if (!collides(nextShape, offsetX + dx, offsetY)) {
+                offsetX += dx;
+                brickRotator.setCurrentShape(nextShape.getRotation());
+                piece = nextShape;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        Brick currentBrick = brickGenerator.getBrick();
+        preview.invalidate();
+        brickRotator.setBrick(currentBrick);
+        piece = brickRotator.getCurrentState();
+        offsetX = 3;
+        offsetY = 1;
+        hasSwapped = false;
+        return collides(piece, offsetX, offsetY);
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        if (dirtyTop <= dirtyBottom) {
+            for (int row = dirtyTop; row <= dirtyBottom; row++) {
+                int bits = occupancy[row] >>> GUARD;
+                long rowColors = colors[row];
+                int[] target = boardView[row];
+                for (int col = 0; col < height; col++) {
+                    target[col] = (bits & (1 << col)) != 0
+                            ? (int) ((rowColors >>> (col * COLOR_BITS)) & COLOR_MASK)
+                            : 0;
+                }
+            }
+            dirtyTop = width;
+            dirtyBottom = -1;
+        }
+        return boardView;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return viewCache.get(brickRotator.getCurrentState(), offsetX, offsetY, dirtyRegion.getVersion(),
+                preview, brickGenerator, heldBrick, holdVersion, dropDistance);
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        int shift = offsetX + GUARD;
+        for (int r = 0; r < piece.getSize(); r++) {
+            int mask = piece.getRowMask(r);
+            if (mask == 0) {
+                continue;
+            }
+            int row = offsetY + r;
+            occupancy[row] |= mask << shift;
+            for (int c = 0; mask != 0; c++, mask >>>= 1) {
+                if ((mask & 1) != 0) {
+                    int bit = (offsetX + c) * COLOR_BITS;
+                    colors[row] = (colors[row] & ~(COLOR_MASK << bit)) | ((long) piece.getColor() << bit);
+                }
+            }
+        }
+        lockedTop = offsetY + piece.getMinRow();
+        lockedBottom = offsetY + piece.getMaxRow();
+        markDirty(lockedTop, lockedBottom);
+        heightMap.addPiece(piece, offsetX, offsetY);
+        dirtyRegion.markShape(piece, offsetX, offsetY);
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        clearRow.reset();
+        if (lockedTop > lockedBottom) {
+            return clearRow;
+        }
+        for (int row = lockedTop; row <= lockedBottom; row++) {
+            if (occupancy[row] == FULL_ROW) {
+                clearRow.addClearedRow(row);
+            }
+        }
+
+        int removed = clearRow.getLinesRemoved();
+        int firstChanged = lockedTop;
+        if (removed > 0) {
+            int write = lockedBottom;
+            int read = lockedBottom;
+            for (; read >= 0; read--) {
+                int bits = occupancy[read];
+                if (bits == FULL_ROW) {
+                    continue;
+                }
+                if (read < lockedTop && bits == emptyRow) {
+                    break;
+                }
+                dirtyRegion.markCells(write, changedColumns(colors[write], colors[read]));
+                occupancy[write] = bits;
+                colors[write] = colors[read];
+                write--;
+            }
+            for (int row = write; row > read; row--) {
+                dirtyRegion.markCells(row, changedColumns(colors[row], 0L));
+                occupancy[row] = emptyRow;
+                colors[row] = 0L;
+            }
+            firstChanged = read + 1;
+            markDirty(firstChanged, lockedBottom);
+            heightMap.rebuild();
+        }
+        clearRow.setChangedRows(firstChanged, lockedBottom);
+        clearRow.setScoreBonus(50 * removed * removed);
+        lockedBottom = -1;
+        return clearRow;
+    }
+
+    @Override
+    public GameScore getScore() {
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        clearBoard();
+        score.reset();
+        createNewBrick();
+    }
+
+    public int dropDistance() {
+        int dist = heightMap.dropDistance(piece, offsetX, offsetY);
+        if (dist >= 0) {
+            return dist;
+        }
+        dist = 0;
+        while (!collides(piece, offsetX, offsetY + dist + 1)) {
+            dist++;
+        }
+        return dist;
+    }
+
+    @Override
+    public boolean holdBrick() {
+        if (hasSwapped) {
+            return false;
+        }
+
+        Brick currentBrick = brickRotator.brick;
+
+        if (heldBrick == null) {
+            heldBrick = currentBrick;
+            createNewBrick();
+        } else {
+            Brick temp = heldBrick;
+            heldBrick = currentBrick;
+            brickRotator.setBrick(temp);
+            piece = brickRotator.getCurrentState();
+            offsetX = 3;
+            offsetY = 2;
+
+            if (collides(piece, offsetX, offsetY)) {
+                heldBrick = temp;
+                brickRotator.setBrick(currentBrick);
+                piece = brickRotator.getCurrentState();
+                return false;
+            }
+        }
+
+        hasSwapped = true;
+        holdVersion++;
+        return true;
+    }
+
+    @Override
+    public int[][] getHeldBrickData() {
+        if (heldBrick == null) {
+            return null;
+        }
+        return heldBrick.getShapes().get(0).toMatrix();
+    }
+
+    @Override
+    public void setPreviewDepth(int depth) {
+        preview.setDepth(depth);
+    }
+
+    @Override
+    public int getPreviewDepth() {
+        return preview.getDepth();
+    }
+
+    @Override
+    public GameMode getGameMode() {
+        return gameMode;
+    }
+
+    @Override
+    public void clearBoard() {
+        Arrays.fill(occupancy, emptyRow);
+        Arrays.fill(colors, 0L);
+        lockedBottom = -1;
+        heightMap.reset();
+        markDirty(0, width - 1);
+        dirtyRegion.markAll();
+    }
+
+    @Override
+    public void loadBoard(int[][] matrix) {
+        MatrixOperations.checkStacked(matrix);
+        clearBoard();
+        for (int row = 0; row < width; row++) {
+            for (int col = 0; col < height; col++) {
+                if (matrix[row][col] != 0) {
+                    occupancy[row] |= 1 << (col + GUARD);
+                    colors[row] |= ((long) matrix[row][col] & COLOR_MASK) << (col * COLOR_BITS);
+                }
+            }
+        }
+        heightMap.rebuild();
+    }
+
+    @Override
+    public HeightMap getHeightMap() {
+        return heightMap;
+    }
+
+    @Override
+    public DirtyRegion getDirtyRegion() {
+        return dirtyRegion;
+    }
+
+    @Override
+    public Brick getCurrentBrick() {
+        return brickRotator.brick;
+    }
+
+    @Override
+    public ShapeState getCurrentState() {
+        return brickRotator.getCurrentState();
+    }
+
+    @Override
+    public int getBrickX() {
+        return offsetX;
+    }
+
+    @Override
+    public int getBrickY() {
+        return offsetY;
+    }
+
+    @Override
+    public Brick getHeldBrick() {
+        return heldBrick;
+    }
+
+    @Override
+    public boolean canHold() {
+        return !hasSwapped;
+    }
+
+    @Override
+    public List<Brick> getNextBricks(int count) {
+        return brickGenerator.getNextBricks(count);
+    }
+
+    private void markDirty(int top, int bottom) {
+        dirtyTop = Math.min(dirtyTop, top);
+        dirtyBottom = Math.max(dirtyBottom, bottom);
+    }
+
+    // One bit per column whose colour nibble differs; empty cells are colour 0, so occupancy is covered too
+    private static int changedColumns(long before, long after) {
+        long diff = before ^ after;
+        diff |= diff >>> 2;
+        diff |= diff >>> 1;
+        return (int) Long.compress(diff, NIBBLE_LOW_BITS);
+    }
+
+    private boolean collides(ShapeState shape, int x, int y) {
+        int shift = x + GUARD;
+        if (shift < 0 || x >= height) {
+            return true;
+        }
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int mask = shape.getRowMask(r);
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + r;
+            if (row < 0 || row >= width || (occupancy[row] & (mask << shift)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
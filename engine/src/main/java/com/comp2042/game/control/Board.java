@@ -0,0 +1,80 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.event.GameMode;
+import com.comp2042.game.ui.ViewData;
+import com.comp2042.game.event.ClearRow;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.ShapeState;
+
+import java.util.List;
+
+public interface Board {
+
+    int DEFAULT_PREVIEW_DEPTH = 3;
+    // The generator always holds at least one full bag ahead
+    int MAX_PREVIEW_DEPTH = 7;
+
+    boolean moveBrickDown();
+
+    // Moves the brick straight down onto the stack; returns how many rows it fell
+    int dropBrick();
+
+    boolean moveBrickLeft();
+
+    boolean moveBrickRight();
+
+    boolean rotateLeftBrick();
+
+    boolean createNewBrick();
+
+    int[][] getBoardMatrix();
+
+    ViewData getViewData();
+
+    void mergeBrickToBackground();
+
+    ClearRow clearRows();
+
+    GameScore getScore();
+
+    void newGame();
+
+    boolean holdBrick();
+
+    int[][] getHeldBrickData();
+
+    // How many upcoming bricks ViewData carries, 1 to MAX_PREVIEW_DEPTH
+    void setPreviewDepth(int depth);
+
+    int getPreviewDepth();
+
+    GameMode getGameMode();
+
+    void clearBoard();
+
+    // Replaces the locked cells with a copy of the given rows x columns matrix (fixtures, replays).
+    // Play never leaves an empty row under a filled one, so such a matrix is rejected.
+    void loadBoard(int[][] matrix);
+
+    HeightMap getHeightMap();
+
+    // Rows the brick can still fall before it rests on the stack
+    int dropDistance();
+
+    // Locked cells changed since GameEngine last reported them to its listener
+    DirtyRegion getDirtyRegion();
+
+    Brick getCurrentBrick();
+
+    ShapeState getCurrentState();
+
+    int getBrickX();
+
+    int getBrickY();
+
+    Brick getHeldBrick();
+
+    boolean canHold();
+
+    List<Brick> getNextBricks(int count);
+}
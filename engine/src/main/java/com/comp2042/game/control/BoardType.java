@@ -0,0 +1,26 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.event.GameMode;
+
+import java.util.Locale;
+
+// The two Board implementations, picked by name for simulations and benchmarks; both play identically.
+public enum BoardType {
+    SIMPLE, BITS;
+
+    public Board create(int rows, int columns, GameMode mode, long seed) {
+        return this == BITS ? new BitBoard(rows, columns, mode, seed) : new SimpleBoard(rows, columns, mode, seed);
+    }
+
+    public static BoardType parse(String name) {
+        if (name == null) {
+            return SIMPLE;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown board " + name + ", using " + SIMPLE);
+            return SIMPLE;
+        }
+    }
+}
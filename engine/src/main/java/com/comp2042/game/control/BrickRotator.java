@@ -0,0 +1,53 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.ui.NextShapeInfo;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.ShapeState;
+
+import java.util.List;
+
+public class BrickRotator {
+
+    // Horizontal offsets tried in order when a rotation collides
+    static final int[] KICKS = {0, -1, 1, -2, 2, -3, 3};
+
+    Brick brick;
+    private int currentShape = 0;
+
+    public NextShapeInfo getNextShape() {
+        ShapeState next = getNextState();
+        return new NextShapeInfo(next.toMatrix(), next.getRotation());
+    }
+
+    public int[][] getCurrentShape() {
+        return getCurrentState().toMatrix();
+    }
+
+    public ShapeState getCurrentState() {
+        return brick.getShapes().get(currentShape);
+    }
+
+    public ShapeState getNextState() {
+        List<ShapeState> shapes = brick.getShapes();
+        return shapes.get((currentShape + 1) % shapes.size());
+    }
+
+    public void setCurrentShape(int currentShape) {
+        this.currentShape = currentShape;
+    }
+
+    public static int getKickCount() {
+        return KICKS.length;
+    }
+
+    public static int getKick(int index) {
+        return KICKS[index];
+    }
+
+    public void setBrick(Brick brick) {
+        this.brick = brick;
+        currentShape = 0;
+    }
+
+
+}
@@ -0,0 +1,144 @@
+package com.comp2042.game.control;
+
+import com.comp2042.logic.bricks.ShapeState;
+
+import java.util.Arrays;
+
+/**
+ * Locked cells that changed since the front end was last told, as one column bitmask per row.
+ * The board marks cells as it changes them; GameEngine reports the region and then clears it.
+ */
+public final class DirtyRegion {
+
+    private final int[] rowMasks;
+    private final int fullRow;
+    private int top;
+    private int bottom = -1;
+    private boolean full;
+    private long version;
+
+    DirtyRegion(int rows, int columns) {
+        if (columns > Integer.SIZE) {
+            throw new IllegalArgumentException("DirtyRegion supports at most " + Integer.SIZE + " columns");
+        }
+        rowMasks = new int[rows];
+        fullRow = columns == Integer.SIZE ? -1 : (1 << columns) - 1;
+        top = rows;
+        markAll();
+    }
+
+    // Every cell of a field, for front ends that diff a whole copy of it; full asks for a redraw of each
+    // cell whatever it held before. Only this package can mark or clear it, so it never changes.
+    public static DirtyRegion allCells(int rows, int columns, boolean full) {
+        DirtyRegion region = new DirtyRegion(rows, columns);
+        region.full = full;
+        return region;
+    }
+
+    // A copy of the board for a renderer on another thread, made from the previous copy: the rows this
+    // region leaves clean are shared with it and only the dirty ones are copied. No row is ever written
+    // after it is handed out, so a renderer can find the changed rows with changedRows.
+    public int[][] copyDirtyRows(int[][] board, int[][] previous) {
+        if (full || previous == null || previous.length != board.length) {
+            return MatrixOperations.copy(board);
+        }
+        if (isEmpty()) {
+            return previous;
+        }
+        int[][] copy = previous.clone();
+        for (int row = top; row <= bottom; row++) {
+            if (rowMasks[row] != 0) {
+                copy[row] = board[row].clone();
+            }
+        }
+        return copy;
+    }
+
+    // The rows of a copyDirtyRows field that are not the same arrays as in the one drawn before
+    public static DirtyRegion changedRows(int[][] shown, int[][] field) {
+        DirtyRegion region = new DirtyRegion(field.length, field[0].length);
+        region.clear();
+        for (int row = 0; row < field.length; row++) {
+            if (field[row] != shown[row]) {
+                region.markRows(row, row);
+            }
+        }
+        return region;
+    }
+
+    public boolean isEmpty() {
+        return top > bottom;
+    }
+
+    // True after a new game, board clear or load: every cell should be redrawn.
+    public boolean isFull() {
+        return full;
+    }
+
+    public int getTop() {
+        return top;
+    }
+
+    public int getBottom() {
+        return bottom;
+    }
+
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    public boolean isDirty(int row, int col) {
+        return (rowMasks[row] & (1 << col)) != 0;
+    }
+
+    // Bumped by every change to the locked cells and never reset, so views can tell the field apart
+    public long getVersion() {
+        return version;
+    }
+
+    public int getCellCount() {
+        int count = 0;
+        for (int row = top; row <= bottom; row++) {
+            count += Integer.bitCount(rowMasks[row]);
+        }
+        return count;
+    }
+
+    void markCells(int row, int mask) {
+        mask &= fullRow;
+        if (mask == 0) {
+            return;
+        }
+        rowMasks[row] |= mask;
+        version++;
+        top = Math.min(top, row);
+        bottom = Math.max(bottom, row);
+    }
+
+    void markShape(ShapeState shape, int x, int y) {
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int mask = shape.getRowMask(r);
+            markCells(y + r, x >= 0 ? mask << x : mask >>> -x);
+        }
+    }
+
+    void markRows(int first, int last) {
+        for (int row = Math.max(0, first); row <= Math.min(last, rowMasks.length - 1); row++) {
+            markCells(row, fullRow);
+        }
+    }
+
+    void markAll() {
+        markRows(0, rowMasks.length - 1);
+        full = true;
+    }
+
+    void clear() {
+        if (!isEmpty()) {
+            Arrays.fill(rowMasks, top, bottom + 1, 0);
+        }
+        top = rowMasks.length;
+        bottom = -1;
+        full = false;
+    }
+}
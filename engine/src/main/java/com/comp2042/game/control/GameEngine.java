@@ -0,0 +1,214 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.event.ClearRow;
+import com.comp2042.game.event.DownData;
+import com.comp2042.game.event.DropTrail;
+import com.comp2042.game.event.EventSource;
+import com.comp2042.game.event.EventType;
+import com.comp2042.game.event.GameListener;
+import com.comp2042.game.event.GameMode;
+import com.comp2042.game.event.InputEventListener;
+import com.comp2042.game.event.MoveEvent;
+import com.comp2042.game.ui.ViewData;
+
+/**
+ * Game rules (scoring, levels, Zen auto-clear and game over) with no UI attached.
+ * A {@link GameListener} is told about everything a front end needs to redraw.
+ */
+public class GameEngine implements InputEventListener {
+
+    public static final int BOARD_ROWS = 25;
+    public static final int BOARD_COLUMNS = 10;
+    private static final int LINES_PER_LEVEL = 5;
+
+    private static final GameListener NO_LISTENER = new GameListener() {
+    };
+
+    private final Board board;
+    private final GameMode gameMode;
+    private GameListener listener = NO_LISTENER;
+    private boolean gameOver;
+
+    public GameEngine(GameMode mode) {
+        this(new SimpleBoard(BOARD_ROWS, BOARD_COLUMNS, mode));
+    }
+
+    public GameEngine(GameMode mode, long seed) {
+        this(new SimpleBoard(BOARD_ROWS, BOARD_COLUMNS, mode, seed));
+    }
+
+    public GameEngine(Board board) {
+        this.board = board;
+        this.gameMode = board.getGameMode();
+        board.createNewBrick();
+    }
+
+    public void setListener(GameListener listener) {
+        this.listener = listener != null ? listener : NO_LISTENER;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public GameScore getScore() {
+        return board.getScore();
+    }
+
+    public GameMode getGameMode() {
+        return gameMode;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        ClearRow clearRow = moveDown(event.getEventSource());
+        return new DownData(clearRow, board.getViewData());
+    }
+
+    // One row of gravity without building a ViewData; returns the lock result, or null if the brick moved.
+    public ClearRow moveDown(EventSource source) {
+        if (!board.moveBrickDown()) {
+            return lockBrick();
+        }
+        if (source == EventSource.USER) {
+            board.getScore().add(1);
+            fireScoreChanged();
+        }
+        return null;
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        int[][] brickData = board.getCurrentState().toMatrix();
+        int x = board.getBrickX();
+        int y = board.getBrickY();
+        int rows = dropBrick(event.getEventSource());
+        ClearRow clearRow = lockBrick();
+        return new DownData(clearRow, board.getViewData(), new DropTrail(brickData, x, y, rows));
+    }
+
+    // Drop and lock without building a ViewData; always returns the lock result.
+    public ClearRow hardDrop(EventSource source) {
+        dropBrick(source);
+        return lockBrick();
+    }
+
+    // Player drops score a point per row, the same as soft-dropping the whole way
+    private int dropBrick(EventSource source) {
+        int rows = board.dropBrick();
+        if (source == EventSource.USER && rows > 0) {
+            board.getScore().add(rows);
+            fireScoreChanged();
+        }
+        return rows;
+    }
+
+    private ClearRow lockBrick() {
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+
+        if (clearRow.getLinesRemoved() > 0) {
+            board.getScore().add(clearRow.getScoreBonus());
+            board.getScore().addLines(clearRow.getLinesRemoved());
+            fireScoreChanged();
+
+            // Only level up in Normal mode
+            if (gameMode == GameMode.NORMAL) {
+                checkLevelUp();
+            }
+        }
+
+        boolean collision = board.createNewBrick();
+
+        if (collision) {
+            if (gameMode == GameMode.ZEN) {
+                board.clearBoard();
+                board.createNewBrick();
+                listener.onBoardCleared(board.getBoardMatrix());
+            } else {
+                gameOver = true;
+                listener.onGameOver();
+            }
+        }
+
+        fireBackgroundChanged();
+        return clearRow;
+    }
+
+    private void checkLevelUp() {
+        int totalLines = board.getScore().getLinesCleared();
+        int newLevel = (totalLines / LINES_PER_LEVEL) + 1;
+
+        if (newLevel > board.getScore().getLevel()) {
+            board.getScore().setLevel(newLevel);
+            listener.onLevelUp(newLevel);
+        }
+    }
+
+    private void fireBackgroundChanged() {
+        DirtyRegion dirtyRegion = board.getDirtyRegion();
+        if (!dirtyRegion.isEmpty()) {
+            listener.onBackgroundChanged(board.getBoardMatrix(), dirtyRegion);
+            dirtyRegion.clear();
+        }
+    }
+
+    private void fireScoreChanged() {
+        listener.onScoreChanged(board.getScore().getScore(), board.getScore().getLinesCleared());
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        board.moveBrickLeft();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        board.moveBrickRight();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onShiftEvent(MoveEvent event) {
+        if (event.getEventType() == EventType.LEFT) {
+            while (board.moveBrickLeft()) {
+                // keep going until blocked
+            }
+        } else {
+            while (board.moveBrickRight()) {
+                // keep going until blocked
+            }
+        }
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        board.rotateLeftBrick();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        board.holdBrick();
+        return board.getViewData();
+    }
+
+    @Override
+    public void createNewGame() {
+        board.newGame();
+        gameOver = false;
+        fireScoreChanged();
+        fireBackgroundChanged();
+    }
+}
@@ -0,0 +1,432 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.event.DownData;
+import com.comp2042.game.event.EventSource;
+import com.comp2042.game.event.EventType;
+import com.comp2042.game.event.InputEventListener;
+import com.comp2042.game.event.MoveEvent;
+import com.comp2042.game.ui.Frame;
+import com.comp2042.game.ui.FrameExchange;
+import com.comp2042.game.ui.ViewData;
+import com.comp2042.logic.metrics.Histogram;
+
+import java.util.function.Consumer;
+
+/**
+ * Fixed-timestep driver for gravity, hard drops and held keys. The owner calls advance() with
+ * System.nanoTime() as often as it likes (every FX pulse in the GUI) and the loop runs however
+ * many logic ticks have elapsed. Gravity is fractional, so slow levels move a row every few
+ * hundred ticks and 20G moves several rows per tick. Key presses and releases are queued with
+ * keyPressed()/keyReleased() and applied at the start of the next tick; held LEFT/RIGHT auto-shift
+ * (DAS/ARR) and held DOWN soft drop are then driven by the tick itself rather than OS key repeat.
+ * Each tick publishes at most one Frame however many moves and rows it covered. The renderer draws
+ * the latest Frame, taken from a FrameExchange so the loop may also run on its own LogicThread.
+ * A lock ends its tick, so every move belongs to exactly one tick before that tick's gravity; a
+ * replay is a Script of those moves by tick, and play() re-derives gravity from the tick count.
+ */
+public class GameLoop {
+
+    public static final int TICKS_PER_SECOND = 120;
+    public static final long TICK_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+    // Gravity is measured in G: rows per 1/60 s
+    public static final double MAX_GRAVITY = 20.0;
+
+    private static final int BASE_INTERVAL_MILLIS = 600;
+    private static final int MIN_INTERVAL_MILLIS = 100;
+    private static final int MAX_CATCH_UP_TICKS = TICKS_PER_SECOND / 4;
+    private static final double MAX_ROWS_PER_TICK = MAX_GRAVITY * 60.0 / TICKS_PER_SECOND;
+    // 64 slots is far more than a player can fill in one tick
+    private static final int INPUT_CAPACITY_BITS = 6;
+
+    public static final int DEFAULT_DAS_MILLIS = 167;
+    public static final int DEFAULT_ARR_MILLIS = 33;
+    public static final double DEFAULT_SOFT_DROP_FACTOR = 20.0;
+
+    // The only event gravity sends; recordings leave it out because playback re-derives it
+    public static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+    private static final MoveEvent USER_DOWN = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent USER_LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent USER_RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent USER_ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent USER_HOLD = new MoveEvent(EventType.HOLD, EventSource.USER);
+    private static final MoveEvent[] USER_MOVES = new MoveEvent[EventType.values().length];
+    private static final Consumer<DownData> NO_LOCK_HANDLER = down -> {
+    };
+    private static final Runnable NO_SCRIPT_END_HANDLER = () -> {
+    };
+
+    static {
+        USER_MOVES[EventType.DOWN.ordinal()] = USER_DOWN;
+        USER_MOVES[EventType.LEFT.ordinal()] = USER_LEFT;
+        USER_MOVES[EventType.RIGHT.ordinal()] = USER_RIGHT;
+        USER_MOVES[EventType.ROTATE.ordinal()] = USER_ROTATE;
+        USER_MOVES[EventType.HOLD.ordinal()] = USER_HOLD;
+        USER_MOVES[EventType.HARD_DROP.ordinal()] = HARD_DROP;
+    }
+
+    // Recorded moves fed in by tick instead of the keyboard
+    public interface Script {
+        // The next move due at or before the game tick (0 is the first tick after play()), or null
+        MoveEvent next(long gameTick);
+
+        // True once every move has been played and the recording's last tick has been reached
+        boolean isFinished(long gameTick);
+    }
+
+    private final InputEventListener input;
+    private final InputQueue inputs = new InputQueue(INPUT_CAPACITY_BITS);
+    private final InputQueue.Sink applyInput = this::applyInput;
+    private final AutoShift autoShift = new AutoShift(ticksFor(DEFAULT_DAS_MILLIS), ticksFor(DEFAULT_ARR_MILLIS));
+    private double softDropFactor = DEFAULT_SOFT_DROP_FACTOR;
+    private Consumer<DownData> lockHandler = NO_LOCK_HANDLER;
+    private Runnable scriptEndHandler = NO_SCRIPT_END_HANDLER;
+    private Histogram tickTimes;
+    private double rowsPerTick;
+    private double gravityProgress;
+    private double softDropProgress;
+    private int speed = 1;
+    private Script script;
+    // Read by the key handler, which may be on another thread than the tick
+    private volatile boolean running;
+    // Owner side, unlike queued key presses
+    private boolean hardDropRequested;
+    private long lastNanos;
+    private long accumulatedNanos;
+    private long tick;
+    // The tick a game started after, and the tick whose inputs are still being taken
+    private long startTick;
+    private long inputTick = 1;
+    private boolean lockedThisTick;
+    private long sequence;
+    private final FrameExchange frames;
+
+    // Writer side: the last view published and the field copy every frame carries
+    private ViewData lastView;
+    private int[][] field;
+    private long fieldResets;
+
+    // Built up while a tick runs and published once at its end
+    private ViewData pendingView;
+    private boolean fieldChanged;
+    private int inputCount;
+    private long oldestInputNanos;
+    private long inputOffsetNanos;
+
+    public GameLoop(InputEventListener input) {
+        this.input = input;
+        // Assigned directly: the constructor calls nothing a subclass could override
+        rowsPerTick = rowsPerTick(gravityForLevel(1));
+        lastView = input.getViewData();
+        frames = new FrameExchange(lastView);
+    }
+
+    // Level 1 falls a row every 600ms, each level 10% faster, never quicker than 100ms
+    public static double gravityForLevel(int level) {
+        double intervalMillis = Math.max(MIN_INTERVAL_MILLIS, BASE_INTERVAL_MILLIS * Math.pow(0.9, level - 1));
+        return 1000.0 / intervalMillis / 60.0;
+    }
+
+    public void setGravity(double gravity) {
+        rowsPerTick = rowsPerTick(gravity);
+    }
+
+    private static double rowsPerTick(double gravity) {
+        return Math.max(0.0, Math.min(gravity, MAX_GRAVITY)) * 60.0 / TICKS_PER_SECOND;
+    }
+
+    // DAS is the hold time before auto-repeat starts, ARR the time between repeats (0 shifts straight
+    // to the wall), and the soft drop factor multiplies the fall speed while DOWN is held
+    public void setHandling(int dasMillis, int arrMillis, double softDropFactor) {
+        autoShift.setTiming(ticksFor(dasMillis), ticksFor(arrMillis));
+        this.softDropFactor = Math.max(1.0, softDropFactor);
+    }
+
+    private static int ticksFor(int millis) {
+        return (int) Math.round(Math.max(0, millis) * TICKS_PER_SECOND / 1000.0);
+    }
+
+    // Called after every lock, once the new brick has spawned; hard drops carry their DropTrail
+    public void setLockHandler(Consumer<DownData> lockHandler) {
+        this.lockHandler = lockHandler != null ? lockHandler : NO_LOCK_HANDLER;
+    }
+
+    // Called on the loop's thread when a script has played to its end and the loop has stopped
+    public void setScriptEndHandler(Runnable scriptEndHandler) {
+        this.scriptEndHandler = scriptEndHandler != null ? scriptEndHandler : NO_SCRIPT_END_HANDLER;
+    }
+
+    // Optional: records how long each tick takes in nanoseconds, locks and line clears included
+    public void setTickHistogram(Histogram tickTimes) {
+        this.tickTimes = tickTimes;
+    }
+
+    public void start(long nowNanos) {
+        gravityProgress = 0.0;
+        softDropProgress = 0.0;
+        hardDropRequested = false;
+        inputs.clear();
+        autoShift.reset();
+        script = null;
+        speed = 1;
+        startTick = tick;
+        inputTick = tick + 1;
+        resume(nowNanos);
+    }
+
+    // Starts a game driven by the script instead of the keyboard; gravity runs as in a live game
+    public void play(Script script, long nowNanos) {
+        start(nowNanos);
+        this.script = script;
+    }
+
+    public boolean isScripted() {
+        return script != null;
+    }
+
+    // Game time runs this many times faster than real time, for watching replays
+    public void setSpeed(int speed) {
+        this.speed = Math.max(1, speed);
+    }
+
+    // The game tick a move made now belongs to: the running tick while it still takes inputs, otherwise
+    // the next one. Recordings store these so playback puts every move in the same tick.
+    public long getInputTick() {
+        return inputTick - startTick - 1;
+    }
+
+    public void resume(long nowNanos) {
+        running = true;
+        lastNanos = nowNanos;
+        accumulatedNanos = 0L;
+    }
+
+    public void stop() {
+        running = false;
+        hardDropRequested = false;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Owner side: hard-drops the brick at the start of the next tick, e.g. to finish an autoplay move
+    public void hardDropOnNextTick() {
+        if (running) {
+            hardDropRequested = true;
+        }
+    }
+
+    // Queues a key press (LEFT, RIGHT, ROTATE, DOWN, HOLD or HARD_DROP) for the next tick; nanos is when
+    // the key arrived. Every press moves once; LEFT, RIGHT and DOWN keep acting until keyReleased().
+    public boolean keyPressed(EventType type, long nanos) {
+        return running && inputs.offer(type, false, nanos);
+    }
+
+    // Releases are queued even while stopped, so a key let go during a pause is not left held
+    public boolean keyReleased(EventType type, long nanos) {
+        return inputs.offer(type, true, nanos);
+    }
+
+    // Runs every tick that is due; returns how many ran
+    public int advance(long nowNanos) {
+        if (!running) {
+            return 0;
+        }
+        accumulatedNanos += (nowNanos - lastNanos) * speed;
+        lastNanos = nowNanos;
+        int ticks = 0;
+        while (running && accumulatedNanos >= TICK_NANOS) {
+            accumulatedNanos -= TICK_NANOS;
+            if (tickTimes != null) {
+                long started = System.nanoTime();
+                tick();
+                tickTimes.record(System.nanoTime() - started);
+            } else {
+                tick();
+            }
+            if (++ticks == MAX_CATCH_UP_TICKS * speed) {
+                // After a long stall drop the backlog rather than fast-forwarding the game
+                accumulatedNanos = 0L;
+                break;
+            }
+        }
+        return ticks;
+    }
+
+    // How long an owner driving advance() from its own thread may sleep before the next tick is due
+    public long getNanosToNextTick() {
+        return running ? Math.max(0L, TICK_NANOS - accumulatedNanos) : TICK_NANOS;
+    }
+
+    private void tick() {
+        tick++;
+        inputTick = tick;
+        lockedThisTick = false;
+        runTick();
+        // Lock handlers and commands run after this belong to the next tick
+        inputTick = tick + 1;
+        if (pendingView != null || fieldChanged) {
+            publish(pendingView != null ? pendingView : lastView);
+        }
+    }
+
+    private void runTick() {
+        if (script != null) {
+            playScript();
+        } else {
+            inputs.drain(applyInput);
+        }
+        if (!running || lockedThisTick) {
+            return;
+        }
+        autoShift();
+        if (hardDropRequested) {
+            hardDropRequested = false;
+            locked(input.onHardDropEvent(HARD_DROP));
+            return;
+        }
+        // Soft-dropped rows come from the player, so they score like single DOWN presses; gravity
+        // keeps its own pace underneath, which lets playback re-derive it without the key state
+        if (autoShift.isSoftDropHeld()) {
+            softDropProgress += Math.min(rowsPerTick * (softDropFactor - 1.0), MAX_ROWS_PER_TICK);
+            while (running && softDropProgress >= 1.0) {
+                softDropProgress -= 1.0;
+                if (moveDown(USER_DOWN)) {
+                    return;
+                }
+            }
+        }
+        gravityProgress += rowsPerTick;
+        while (running && gravityProgress >= 1.0) {
+            gravityProgress -= 1.0;
+            if (moveDown(GRAVITY)) {
+                return;
+            }
+        }
+    }
+
+    private void playScript() {
+        long gameTick = tick - startTick - 1;
+        MoveEvent move;
+        while (running && !lockedThisTick && (move = script.next(gameTick)) != null) {
+            apply(move);
+        }
+        if (running && !lockedThisTick && script.isFinished(gameTick)) {
+            stop();
+            scriptEndHandler.run();
+        }
+    }
+
+    private boolean applyInput(EventType type, boolean released, long nanos) {
+        if (released) {
+            autoShift.release(type);
+            return true;
+        }
+        autoShift.press(type);
+        if (inputCount == 0) {
+            oldestInputNanos = nanos;
+        }
+        inputCount++;
+        inputOffsetNanos += nanos - oldestInputNanos;
+        apply(USER_MOVES[type.ordinal()]);
+        // A lock ends the tick; anything queued after it waits for the next one
+        return running && !lockedThisTick;
+    }
+
+    private void apply(MoveEvent move) {
+        switch (move.getEventType()) {
+            case LEFT:
+                pendingView = input.onLeftEvent(move);
+                break;
+            case RIGHT:
+                pendingView = input.onRightEvent(move);
+                break;
+            case ROTATE:
+                pendingView = input.onRotateEvent(move);
+                break;
+            case HOLD:
+                pendingView = input.onHoldEvent(move);
+                break;
+            case DOWN:
+                moveDown(move);
+                break;
+            case HARD_DROP:
+                locked(input.onHardDropEvent(move));
+                break;
+            default:
+                break;
+        }
+    }
+
+    // True when the brick locked instead of moving
+    private boolean moveDown(MoveEvent move) {
+        DownData down = input.onDownEvent(move);
+        if (down.getClearRow() != null) {
+            locked(down);
+            return true;
+        }
+        pendingView = down.getViewData();
+        return false;
+    }
+
+    // Auto-repeat only publishes when the brick actually moved, so holding against a wall costs nothing
+    private void autoShift() {
+        int steps = autoShift.tick();
+        if (steps == 0) {
+            return;
+        }
+        MoveEvent move = autoShift.getActive() == EventType.LEFT ? USER_LEFT : USER_RIGHT;
+        ViewData before = pendingView != null ? pendingView : lastView;
+        ViewData after;
+        if (steps == AutoShift.TO_WALL) {
+            after = input.onShiftEvent(move);
+        } else if (move == USER_LEFT) {
+            after = input.onLeftEvent(move);
+        } else {
+            after = input.onRightEvent(move);
+        }
+        if (after.getxPosition() != before.getxPosition()) {
+            pendingView = after;
+        }
+    }
+
+    private void locked(DownData down) {
+        // A fresh brick starts its fall from a whole row, on the next tick
+        gravityProgress = 0.0;
+        softDropProgress = 0.0;
+        lockedThisTick = true;
+        inputTick = tick + 1;
+        publish(down.getViewData());
+        lockHandler.accept(down);
+    }
+
+    // Also carries the timing of any inputs applied since the last frame, for latency measurement
+    public void publish(ViewData view) {
+        frames.publish(++sequence, tick, view, inputCount, oldestInputNanos, inputOffsetNanos, field, fieldResets);
+        lastView = view;
+        pendingView = null;
+        fieldChanged = false;
+        inputCount = 0;
+        inputOffsetNanos = 0L;
+    }
+
+    // For a renderer on another thread: the locked cells go out with the next frame instead of being
+    // drawn straight away. The array must not change afterwards; reset marks a whole new field.
+    public void publishField(int[][] cells, boolean reset) {
+        field = cells;
+        if (reset) {
+            fieldResets++;
+        }
+        fieldChanged = true;
+    }
+
+    // Reader side; only ever call it from one thread
+    public Frame getFrame() {
+        return frames.latest();
+    }
+
+    public long getTick() {
+        return tick;
+    }
+}
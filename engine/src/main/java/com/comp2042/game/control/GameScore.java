@@ -0,0 +1,38 @@
+package com.comp2042.game.control;
+
+public final class GameScore {
+
+    private int score;
+    private int linesCleared;
+    private int level = 1;
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public void add(int i) {
+        score += i;
+    }
+
+    public void addLines(int lines) {
+        linesCleared += lines;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    public void reset() {
+        score = 0;
+        linesCleared = 0;
+        level = 1;
+    }
+}
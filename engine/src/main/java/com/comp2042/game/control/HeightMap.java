@@ -0,0 +1,125 @@
+package com.comp2042.game.control;
+
+import com.comp2042.logic.bricks.ShapeState;
+
+/**
+ * Per-column stack height and hole count, kept up to date as pieces lock.
+ * Boards expose it read-only; only the owning board can change it.
+ */
+public final class HeightMap {
+
+    interface CellSource {
+        boolean isFilled(int row, int col);
+    }
+
+    private final int rows;
+    private final int[] heights;
+    private final int[] holes;
+    private final CellSource cells;
+
+    HeightMap(int rows, int columns, CellSource cells) {
+        this.rows = rows;
+        this.heights = new int[columns];
+        this.holes = new int[columns];
+        this.cells = cells;
+    }
+
+    public int getColumns() {
+        return heights.length;
+    }
+
+    public int getHeight(int col) {
+        return heights[col];
+    }
+
+    public int getHoles(int col) {
+        return holes[col];
+    }
+
+    // Row index of the topmost filled cell in the column, or the row count if it is empty.
+    public int getSurfaceRow(int col) {
+        return rows - heights[col];
+    }
+
+    public int getMaxHeight() {
+        int max = 0;
+        for (int height : heights) {
+            max = Math.max(max, height);
+        }
+        return max;
+    }
+
+    public int getTotalHoles() {
+        int total = 0;
+        for (int count : holes) {
+            total += count;
+        }
+        return total;
+    }
+
+    // Rows the shape can fall from (x, y), or -1 if a cell sits under an overhang and the caller must probe.
+    public int dropDistance(ShapeState shape, int x, int y) {
+        int distance = Integer.MAX_VALUE;
+        for (int c = shape.getMinCol(); c <= shape.getMaxCol(); c++) {
+            int bottom = shape.getColumnBottom(c);
+            if (bottom == ShapeState.NO_CELL) {
+                continue;
+            }
+            int pieceRow = y + bottom;
+            int surface = rows - heights[x + c];
+            if (pieceRow >= surface) {
+                return -1;
+            }
+            distance = Math.min(distance, surface - 1 - pieceRow);
+        }
+        return distance;
+    }
+
+    void addPiece(ShapeState shape, int x, int y) {
+        for (int c = shape.getMinCol(); c <= shape.getMaxCol(); c++) {
+            int top = shape.getColumnTop(c);
+            if (top == ShapeState.NO_CELL) {
+                continue;
+            }
+            int col = x + c;
+            int pieceTop = y + top;
+            int pieceBottom = y + shape.getColumnBottom(c);
+            int surface = rows - heights[col];
+            if (pieceBottom < surface) {
+                holes[col] += surface - pieceBottom - 1;
+                heights[col] = rows - pieceTop;
+            } else {
+                rescan(col);
+            }
+        }
+    }
+
+    void rebuild() {
+        for (int col = 0; col < heights.length; col++) {
+            rescan(col);
+        }
+    }
+
+    void reset() {
+        for (int col = 0; col < heights.length; col++) {
+            heights[col] = 0;
+            holes[col] = 0;
+        }
+    }
+
+    private void rescan(int col) {
+        int height = 0;
+        int empty = 0;
+        for (int row = 0; row < rows; row++) {
+            if (cells.isFilled(row, col)) {
+                if (height == 0) {
+                    height = rows - row;
+                }
+            } else if (height != 0) {
+                empty++;
+            }
+        }
+        heights[col] = height;
+        holes[col] = empty;
+    }
+}
@@ -0,0 +1,67 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.ui.Frame;
+import com.comp2042.logic.metrics.Histogram;
+
+// Input-to-render latency over every queued input that has reached a drawn frame.
+public final class InputLatency {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Histogram histogram;
+
+    private long events;
+    private long totalNanos;
+    private long maxNanos;
+    private long lastNanos;
+
+    public InputLatency() {
+        this(null);
+    }
+
+    // The histogram, if any, gets each frame's mean latency once per input in it
+    public InputLatency(Histogram histogram) {
+        this.histogram = histogram;
+    }
+
+    // Call after the frame has been drawn
+    public void record(Frame frame, long renderedNanos) {
+        int count = frame.getInputCount();
+        if (count == 0) {
+            return;
+        }
+        long oldest = renderedNanos - frame.getOldestInputNanos();
+        long total = count * oldest - frame.getInputOffsetNanos();
+        events += count;
+        totalNanos += total;
+        maxNanos = Math.max(maxNanos, oldest);
+        lastNanos = total / count;
+        if (histogram != null) {
+            histogram.record(lastNanos, count);
+        }
+    }
+
+    public long getEvents() {
+        return events;
+    }
+
+    public double getMeanMillis() {
+        return events > 0 ? totalNanos / NANOS_PER_MILLI / events : 0.0;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos / NANOS_PER_MILLI;
+    }
+
+    // Mean over the inputs in the most recent frame that had any
+    public double getLastMillis() {
+        return lastNanos / NANOS_PER_MILLI;
+    }
+
+    public void reset() {
+        events = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+        lastNanos = 0;
+    }
+}
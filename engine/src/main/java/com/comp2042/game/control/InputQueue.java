@@ -0,0 +1,74 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.event.EventType;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded single-producer, single-consumer ring of timestamped key presses and releases, stored as
+ * primitive arrays so queueing a key press allocates nothing. One thread offers (the key handler),
+ * one thread drains (the logic tick); the two counters are only ever written by their own side, so
+ * no locks are needed.
+ */
+public final class InputQueue {
+
+    // Called for each drained event; return false to leave the rest queued
+    public interface Sink {
+        boolean accept(EventType type, boolean released, long nanos);
+    }
+
+    private static final EventType[] TYPES = EventType.values();
+    private static final int RELEASED = 0x40;
+
+    private final int mask;
+    private final byte[] types;
+    private final long[] times;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    public InputQueue(int capacityPowerOfTwo) {
+        types = new byte[1 << capacityPowerOfTwo];
+        times = new long[1 << capacityPowerOfTwo];
+        mask = types.length - 1;
+    }
+
+    // Producer side; a full queue drops the event, which only happens when the consumer has stalled
+    public boolean offer(EventType type, boolean released, long nanos) {
+        long t = tail.getPlain();
+        if (t - head.getAcquire() == types.length) {
+            return false;
+        }
+        int index = (int) t & mask;
+        types[index] = (byte) (type.ordinal() | (released ? RELEASED : 0));
+        times[index] = nanos;
+        tail.setRelease(t + 1);
+        return true;
+    }
+
+    // Consumer side; returns how many events were handed to the sink
+    public int drain(Sink sink) {
+        long h = head.getPlain();
+        long t = tail.getAcquire();
+        int drained = 0;
+        while (h < t) {
+            int index = (int) h & mask;
+            int code = types[index];
+            long nanos = times[index];
+            head.setRelease(++h);
+            drained++;
+            if (!sink.accept(TYPES[code & ~RELEASED], (code & RELEASED) != 0, nanos)) {
+                break;
+            }
+        }
+        return drained;
+    }
+
+    // Consumer side; discards everything queued so far
+    public void clear() {
+        head.setRelease(tail.getAcquire());
+    }
+
+    public boolean isEmpty() {
+        return head.getAcquire() == tail.getAcquire();
+    }
+}
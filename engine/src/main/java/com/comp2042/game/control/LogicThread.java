@@ -0,0 +1,72 @@
+package com.comp2042.game.control;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a GameLoop on a thread of its own, so gravity and held keys keep a steady tick while the FX
+ * thread is busy with layout, effects or a GC pause. Anything else that touches the game (new game,
+ * pause, replay steps) is handed over with execute() and runs between ticks; the renderer only reads
+ * GameLoop.getFrame().
+ */
+public final class LogicThread {
+
+    private static final long JOIN_TIMEOUT_MILLIS = 500;
+
+    private final GameLoop loop;
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    public LogicThread(GameLoop loop) {
+        this.loop = loop;
+        thread = new Thread(this::run, "game-logic");
+        thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    // Runs the command on the logic thread before the next tick
+    public void execute(Runnable command) {
+        commands.add(command);
+        LockSupport.unpark(thread);
+    }
+
+    public boolean isLogicThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    // Pending commands are dropped; the current one finishes first
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(thread);
+        if (thread.isAlive() && !isLogicThread()) {
+            try {
+                thread.join(JOIN_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run() {
+        while (running) {
+            Runnable command;
+            try {
+                while (running && (command = commands.poll()) != null) {
+                    command.run();
+                }
+                loop.advance(System.nanoTime());
+            } catch (RuntimeException e) {
+                // A broken game stops ticking rather than throwing again every tick; commands still run
+                loop.stop();
+                System.err.println("Error in game logic, game stopped: " + e);
+            }
+            // Wakes early when a command arrives
+            LockSupport.parkNanos(this, loop.getNanosToNextTick());
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.comp2042.game.control;
 
 import com.comp2042.game.event.ClearRow;
+import com.comp2042.logic.bricks.ShapeState;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,6 +31,17 @@ public class MatrixOperations {
         return false;
     }
 
+    public static boolean intersect(final int[][] matrix, final ShapeState shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int targetX = x + shape.getCellCol(i);
+            int targetY = y + shape.getCellRow(i);
+            if (checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static boolean checkOutOfBound(int[][] matrix, int targetX, int targetY) {
         boolean returnValue = true;
         if (targetX >= 0 && targetY < matrix.length && targetX < matrix[targetY].length) {
@@ -62,6 +75,14 @@ public class MatrixOperations {
         return copy;
     }
 
+    public static int[][] merge(int[][] filledFields, ShapeState shape, int x, int y) {
+        int[][] copy = copy(filledFields);
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            copy[y + shape.getCellRow(i)][x + shape.getCellCol(i)] = shape.getColor();
+        }
+        return copy;
+    }
+
     public static ClearRow checkRemoving(final int[][] matrix) {
         int[][] tmp = new int[matrix.length][matrix[0].length];
         Deque<int[]> newRows = new ArrayDeque<>();
@@ -94,6 +115,77 @@ public class MatrixOperations {
         return new ClearRow(clearedRows.size(), tmp, scoreBonus);
     }
 
+    // Clears full rows in place, looking only at rows top..bottom where the last piece locked.
+    public static ClearRow clearRows(int[][] matrix, int top, int bottom, ClearRow result) {
+        result.reset();
+        if (top > bottom) {
+            return result;
+        }
+        for (int row = top; row <= bottom; row++) {
+            if (isFullRow(matrix[row])) {
+                result.addClearedRow(row);
+            }
+        }
+
+        int removed = result.getLinesRemoved();
+        int firstChanged = top;
+        if (removed > 0) {
+            int write = bottom;
+            int read = bottom;
+            for (; read >= 0; read--) {
+                int[] source = matrix[read];
+                if (read >= top && isFullRow(source)) {
+                    continue;
+                }
+                // Nothing rests above an empty row (see checkStacked), so the rest of the stack is empty.
+                if (read < top && isEmptyRow(source)) {
+                    break;
+                }
+                if (write != read) {
+                    System.arraycopy(source, 0, matrix[write], 0, source.length);
+                }
+                write--;
+            }
+            for (int row = write; row > read; row--) {
+                Arrays.fill(matrix[row], 0);
+            }
+            firstChanged = read + 1;
+        }
+        result.setChangedRows(firstChanged, bottom);
+        result.setScoreBonus(50 * removed * removed);
+        return result;
+    }
+
+    // Throws unless every empty row is above every non-empty one, which play always keeps and clearRows needs
+    public static void checkStacked(int[][] matrix) {
+        boolean filledAbove = false;
+        for (int row = 0; row < matrix.length; row++) {
+            boolean empty = isEmptyRow(matrix[row]);
+            if (empty && filledAbove) {
+                throw new IllegalArgumentException("Row " + row + " is empty but a row above it is not");
+            }
+            filledAbove |= !empty;
+        }
+    }
+
+    private static boolean isFullRow(int[] row) {
+        for (int cell : row) {
+            if (cell == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEmptyRow(int[] row) {
+        for (int cell : row) {
+            if (cell != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static List<int[][]> deepCopyList(List<int[][]> list){
         return list.stream().map(MatrixOperations::copy).collect(Collectors.toList());
     }
@@ -0,0 +1,52 @@
+package com.comp2042.game.control;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Spawn-orientation matrices of the upcoming bricks for ViewData. They are rebuilt only after
+ * the queue moves or the depth changes, and the version tells front ends when to redraw.
+ */
+final class PreviewCache {
+
+    private int depth = Board.DEFAULT_PREVIEW_DEPTH;
+    private long version;
+    private List<int[][]> data;
+
+    int getDepth() {
+        return depth;
+    }
+
+    void setDepth(int depth) {
+        if (depth < 1 || depth > Board.MAX_PREVIEW_DEPTH) {
+            throw new IllegalArgumentException("Preview depth must be between 1 and " + Board.MAX_PREVIEW_DEPTH + ": " + depth);
+        }
+        this.depth = depth;
+        invalidate();
+    }
+
+    // Call whenever a brick is taken from the generator
+    void invalidate() {
+        version++;
+        data = null;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    List<int[][]> get(BrickGenerator generator) {
+        if (data == null) {
+            List<int[][]> matrices = new ArrayList<>(depth);
+            for (Brick brick : generator.getNextBricks(depth)) {
+                matrices.add(brick.getShapes().get(0).getViewMatrix());
+            }
+            data = Collections.unmodifiableList(matrices);
+        }
+        return data;
+    }
+}
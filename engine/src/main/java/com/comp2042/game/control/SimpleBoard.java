@@ -0,0 +1,297 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.event.GameMode;
+import com.comp2042.game.ui.ViewData;
+import com.comp2042.game.event.ClearRow;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.ShapeState;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+public class SimpleBoard implements Board {
+
+    private final int width;
+    private final int height;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private int[][] currentGameMatrix;
+    private int offsetX;
+    private int offsetY;
+    private final GameScore score;
+    private Brick heldBrick = null;
+    private long holdVersion;
+    private final PreviewCache preview = new PreviewCache();
+    private final ViewCache viewCache = new ViewCache();
+    private final IntSupplier dropDistance = this::dropDistance;
+    private boolean hasSwapped = false;
+    private final GameMode gameMode;
+    private final ClearRow clearRow;
+    private final HeightMap heightMap;
+    private final DirtyRegion dirtyRegion;
+    private int lockedTop;
+    private int lockedBottom = -1;
+
+    public SimpleBoard(int width, int height, GameMode mode) {
+        this(width, height, mode, new RandomBrickGenerator());
+    }
+
+    public SimpleBoard(int width, int height, GameMode mode, long seed) {
+        this(width, height, mode, new RandomBrickGenerator(seed));
+    }
+
+    public SimpleBoard(int width, int height, GameMode mode, BrickGenerator brickGenerator) {
+        this.width = width;
+        this.height = height;
+        this.gameMode = mode;
+        currentGameMatrix = new int[width][height];
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        score = new GameScore();
+        clearRow = new ClearRow(width);
+        heightMap = new HeightMap(width, height, (row, col) -> currentGameMatrix[row][col] != 0);
+        dirtyRegion = new DirtyRegion(width, height);
+    }
+    @Override
+    public boolean moveBrickDown() {
+        if (MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentState(), offsetX, offsetY + 1)) {
+            return false;
+        }
+        offsetY++;
+        return true;
+    }
+
+
+    @Override
+    public int dropBrick() {
+        int rows = dropDistance();
+        offsetY += rows;
+        return rows;
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        if (MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentState(), offsetX - 1, offsetY)) {
+            return false;
+        }
+        offsetX--;
+        return true;
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        if (MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentState(), offsetX + 1, offsetY)) {
+            return false;
+        }
+        offsetX++;
+        return true;
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        ShapeState nextShape = brickRotator.getNextState();
+
+        for (int dx : BrickRotator.KICKS) {
+            if (!MatrixOperations.intersect(currentGameMatrix, nextShape, offsetX + dx, offsetY)) {
+                offsetX += dx;
+                brickRotator.setCurrentShape(nextShape.getRotation());
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        Brick currentBrick = brickGenerator.getBrick();
+        preview.invalidate();
+        brickRotator.setBrick(currentBrick);
+        offsetX = 3;
+        offsetY = 1;
+        hasSwapped = false;
+        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentState(), offsetX, offsetY);
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        return currentGameMatrix;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return viewCache.get(brickRotator.getCurrentState(), offsetX, offsetY, dirtyRegion.getVersion(),
+                preview, brickGenerator, heldBrick, holdVersion, dropDistance);
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        ShapeState shape = brickRotator.getCurrentState();
+        // Written in place, so locking a piece allocates nothing
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            currentGameMatrix[offsetY + shape.getCellRow(i)][offsetX + shape.getCellCol(i)] = shape.getColor();
+        }
+        lockedTop = offsetY + shape.getMinRow();
+        lockedBottom = offsetY + shape.getMaxRow();
+        heightMap.addPiece(shape, offsetX, offsetY);
+        dirtyRegion.markShape(shape, offsetX, offsetY);
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        MatrixOperations.clearRows(currentGameMatrix, lockedTop, lockedBottom, clearRow);
+        lockedBottom = -1;
+        if (clearRow.getLinesRemoved() > 0) {
+            heightMap.rebuild();
+            dirtyRegion.markRows(clearRow.getFirstChangedRow(), clearRow.getLastChangedRow());
+        }
+        return clearRow;
+
+    }
+
+    @Override
+    public GameScore getScore() {
+        return score;
+    }
+
+
+    @Override
+    public void newGame() {
+        currentGameMatrix = new int[width][height];
+        lockedBottom = -1;
+        heightMap.reset();
+        dirtyRegion.markAll();
+        score.reset();
+        createNewBrick();
+    }
+
+    public int dropDistance() {
+        ShapeState shape = brickRotator.getCurrentState();
+        int dist = heightMap.dropDistance(shape, offsetX, offsetY);
+        if (dist >= 0) {
+            return dist;
+        }
+        dist = 0;
+        while (!MatrixOperations.intersect(currentGameMatrix, shape, offsetX, offsetY + dist + 1)) {
+            dist++;
+        }
+        return dist;
+    }
+
+    @Override
+    public boolean holdBrick() {
+        if (hasSwapped) {
+            return false;
+        }
+
+        Brick currentBrick = brickRotator.brick;
+
+        if (heldBrick == null) {
+            heldBrick = currentBrick;
+            createNewBrick();
+        } else {
+            Brick temp = heldBrick;
+            heldBrick = currentBrick;
+            brickRotator.setBrick(temp);
+            offsetX = 3;
+            offsetY = 2;
+
+            if (MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentState(), offsetX, offsetY)) {
+                heldBrick = temp;
+                brickRotator.setBrick(currentBrick);
+                return false;
+            }
+        }
+
+        hasSwapped = true;
+        holdVersion++;
+        return true;
+    }
+
+    @Override
+    public int[][] getHeldBrickData() {
+        if (heldBrick == null) {
+            return null;
+        }
+        return heldBrick.getShapes().get(0).toMatrix();
+    }
+
+    @Override
+    public void setPreviewDepth(int depth) {
+        preview.setDepth(depth);
+    }
+
+    @Override
+    public int getPreviewDepth() {
+        return preview.getDepth();
+    }
+
+    @Override
+    public GameMode getGameMode() {
+        return gameMode;
+    }
+
+    @Override
+    public void clearBoard() {
+        currentGameMatrix = new int[width][height];
+        lockedBottom = -1;
+        heightMap.reset();
+        dirtyRegion.markAll();
+    }
+
+    @Override
+    public void loadBoard(int[][] matrix) {
+        MatrixOperations.checkStacked(matrix);
+        currentGameMatrix = MatrixOperations.copy(matrix);
+        lockedBottom = -1;
+        heightMap.rebuild();
+        dirtyRegion.markAll();
+    }
+
+    @Override
+    public HeightMap getHeightMap() {
+        return heightMap;
+    }
+
+    @Override
+    public DirtyRegion getDirtyRegion() {
+        return dirtyRegion;
+    }
+
+    @Override
+    public Brick getCurrentBrick() {
+        return brickRotator.brick;
+    }
+
+    @Override
+    public ShapeState getCurrentState() {
+        return brickRotator.getCurrentState();
+    }
+
+    @Override
+    public int getBrickX() {
+        return offsetX;
+    }
+
+    @Override
+    public int getBrickY() {
+        return offsetY;
+    }
+
+    @Override
+    public Brick getHeldBrick() {
+        return heldBrick;
+    }
+
+    @Override
+    public boolean canHold() {
+        return !hasSwapped;
+    }
+
+    @Override
+    public List<Brick> getNextBricks(int count) {
+        return brickGenerator.getNextBricks(count);
+    }
+}
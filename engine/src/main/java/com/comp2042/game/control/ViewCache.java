@@ -0,0 +1,49 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.ui.ViewData;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.ShapeState;
+
+import java.util.function.IntSupplier;
+
+/**
+ * The last ViewData a board built. The piece version is bumped here whenever the falling brick's
+ * shape or position differs from that snapshot; the queue, hold and field versions come from the
+ * board. An unchanged board gets the same snapshot back, and the drop distance is only searched
+ * again when the piece or the field moved.
+ */
+final class ViewCache {
+
+    private ViewData last;
+    private ShapeState lastShape;
+    private long pieceVersion;
+
+    ViewData get(ShapeState shape, int x, int y, long fieldVersion, PreviewCache preview, BrickGenerator generator,
+                 Brick heldBrick, long holdVersion, IntSupplier dropDistance) {
+        boolean samePiece = last != null && shape == lastShape && x == last.getxPosition() && y == last.getyPosition();
+        boolean sameField = last != null && fieldVersion == last.getFieldVersion();
+        boolean sameQueue = last != null && preview.getVersion() == last.getNextBricksVersion();
+        boolean sameHold = last != null && holdVersion == last.getHeldBrickVersion();
+        if (samePiece && sameField && sameQueue && sameHold) {
+            return last;
+        }
+        if (!samePiece) {
+            pieceVersion++;
+            lastShape = shape;
+        }
+        last = new ViewData(
+                shape.getViewMatrix(),
+                x,
+                y,
+                pieceVersion,
+                sameQueue ? last.getNextBricksData() : preview.get(generator),
+                preview.getVersion(),
+                samePiece && sameField ? last.getDropDistance() : dropDistance.getAsInt(),
+                fieldVersion,
+                sameHold ? last.getHeldBrickData() : heldBrick != null ? heldBrick.getShapes().get(0).getViewMatrix() : null,
+                holdVersion
+        );
+        return last;
+    }
+}
@@ -0,0 +1,74 @@
+package com.comp2042.game.event;
+
+import com.comp2042.game.control.MatrixOperations;
+
+public final class ClearRow {
+
+    private int linesRemoved;
+    private final int[][] newMatrix;
+    private int scoreBonus;
+    private final int[] clearedRows;
+    private int firstChangedRow = -1;
+    private int lastChangedRow = -1;
+
+    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+        this.linesRemoved = linesRemoved;
+        this.newMatrix = newMatrix;
+        this.scoreBonus = scoreBonus;
+        this.clearedRows = new int[0];
+    }
+
+    // Reusable result for in-place clearing; capacity is the most rows one call can clear.
+    public ClearRow(int capacity) {
+        this.newMatrix = null;
+        this.clearedRows = new int[capacity];
+    }
+
+    public int getLinesRemoved() {
+        return linesRemoved;
+    }
+
+    public int[][] getNewMatrix() {
+        return newMatrix != null ? MatrixOperations.copy(newMatrix) : null;
+    }
+
+    public int getScoreBonus() {
+        return scoreBonus;
+    }
+
+    public int getClearedRow(int index) {
+        return clearedRows[index];
+    }
+
+    public boolean hasChangedRows() {
+        return firstChangedRow >= 0 && firstChangedRow <= lastChangedRow;
+    }
+
+    public int getFirstChangedRow() {
+        return firstChangedRow;
+    }
+
+    public int getLastChangedRow() {
+        return lastChangedRow;
+    }
+
+    public void reset() {
+        linesRemoved = 0;
+        scoreBonus = 0;
+        firstChangedRow = -1;
+        lastChangedRow = -1;
+    }
+
+    public void addClearedRow(int row) {
+        clearedRows[linesRemoved++] = row;
+    }
+
+    public void setChangedRows(int first, int last) {
+        firstChangedRow = first;
+        lastChangedRow = last;
+    }
+
+    public void setScoreBonus(int scoreBonus) {
+        this.scoreBonus = scoreBonus;
+    }
+}
@@ -5,10 +5,16 @@ import com.comp2042.game.ui.ViewData;
 public final class DownData {
     private final ClearRow clearRow;
     private final ViewData viewData;
+    private final DropTrail dropTrail;
 
     public DownData(ClearRow clearRow, ViewData viewData) {
+        this(clearRow, viewData, null);
+    }
+
+    public DownData(ClearRow clearRow, ViewData viewData, DropTrail dropTrail) {
         this.clearRow = clearRow;
         this.viewData = viewData;
+        this.dropTrail = dropTrail;
     }
 
     public ClearRow getClearRow() {
@@ -18,4 +24,9 @@ public final class DownData {
     public ViewData getViewData() {
         return viewData;
     }
+
+    // Only set for hard drops
+    public DropTrail getDropTrail() {
+        return dropTrail;
+    }
 }
@@ -0,0 +1,35 @@
+package com.comp2042.game.event;
+
+import com.comp2042.game.control.MatrixOperations;
+
+// Where a hard-dropped brick started and how far it fell, for drawing a trail behind it.
+public final class DropTrail {
+
+    private final int[][] brickData;
+    private final int xPosition;
+    private final int yPosition;
+    private final int rows;
+
+    public DropTrail(int[][] brickData, int xPosition, int yPosition, int rows) {
+        this.brickData = brickData;
+        this.xPosition = xPosition;
+        this.yPosition = yPosition;
+        this.rows = rows;
+    }
+
+    public int[][] getBrickData() {
+        return MatrixOperations.copy(brickData);
+    }
+
+    public int getxPosition() {
+        return xPosition;
+    }
+
+    public int getyPosition() {
+        return yPosition;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+}
@@ -1,5 +1,5 @@
 package com.comp2042.game.event;
 
 public enum EventType {
-    DOWN, LEFT, RIGHT, ROTATE
+    DOWN, LEFT, RIGHT, ROTATE, HOLD, HARD_DROP
 }
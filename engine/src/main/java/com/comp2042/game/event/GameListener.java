@@ -0,0 +1,22 @@
+package com.comp2042.game.event;
+
+import com.comp2042.game.control.DirtyRegion;
+
+public interface GameListener {
+
+    default void onScoreChanged(int score, int linesCleared) {
+    }
+
+    default void onLevelUp(int level) {
+    }
+
+    // Only the cells in the region changed; it is cleared once this returns, so do not keep it
+    default void onBackgroundChanged(int[][] boardMatrix, DirtyRegion dirtyRegion) {
+    }
+
+    default void onBoardCleared(int[][] boardMatrix) {
+    }
+
+    default void onGameOver() {
+    }
+}
@@ -6,10 +6,16 @@ public interface InputEventListener {
 
     DownData onDownEvent(MoveEvent event);
 
+    // Drops the brick onto the stack and locks it in one step
+    DownData onHardDropEvent(MoveEvent event);
+
     ViewData onLeftEvent(MoveEvent event);
 
     ViewData onRightEvent(MoveEvent event);
 
+    // Slides the brick as far as it goes in the event's direction (LEFT or RIGHT)
+    ViewData onShiftEvent(MoveEvent event);
+
     ViewData onRotateEvent(MoveEvent event);
 
     ViewData onHoldEvent(MoveEvent event);
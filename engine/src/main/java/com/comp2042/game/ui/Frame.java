@@ -0,0 +1,75 @@
+package com.comp2042.game.ui;
+
+// One published snapshot of the falling brick; the renderer only redraws when the sequence changes.
+// Frames handed out by a FrameExchange are reused, so they are only valid until the next latest().
+public final class Frame {
+
+    private long sequence;
+    private long tick;
+    private ViewData view;
+    private int inputCount;
+    private long oldestInputNanos;
+    private long inputOffsetNanos;
+    private int[][] field;
+    private long fieldResets;
+
+    Frame() {
+    }
+
+    public Frame(long sequence, long tick, ViewData view) {
+        this(sequence, tick, view, 0, 0L, 0L);
+    }
+
+    public Frame(long sequence, long tick, ViewData view, int inputCount, long oldestInputNanos, long inputOffsetNanos) {
+        set(sequence, tick, view, inputCount, oldestInputNanos, inputOffsetNanos, null, 0L);
+    }
+
+    void set(long sequence, long tick, ViewData view, int inputCount, long oldestInputNanos, long inputOffsetNanos,
+             int[][] field, long fieldResets) {
+        this.sequence = sequence;
+        this.tick = tick;
+        this.view = view;
+        this.inputCount = inputCount;
+        this.oldestInputNanos = oldestInputNanos;
+        this.inputOffsetNanos = inputOffsetNanos;
+        this.field = field;
+        this.fieldResets = fieldResets;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public ViewData getView() {
+        return view;
+    }
+
+    // Queued inputs applied since the previous frame
+    public int getInputCount() {
+        return inputCount;
+    }
+
+    // Timestamp of the first of those inputs
+    public long getOldestInputNanos() {
+        return oldestInputNanos;
+    }
+
+    // Sum of each input's timestamp minus the oldest one, so per-event latency needs no list
+    public long getInputOffsetNanos() {
+        return inputOffsetNanos;
+    }
+
+    // Copy of the locked cells when the loop runs off the FX thread, otherwise null; a new array per change
+    public int[][] getField() {
+        return field;
+    }
+
+    // Bumped whenever the whole field was replaced (new game, replay, board clear)
+    public long getFieldResets() {
+        return fieldResets;
+    }
+}
@@ -0,0 +1,41 @@
+package com.comp2042.game.ui;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Triple-buffered hand-off of Frames from one writer (the logic tick) to one reader (the renderer).
+ * The writer fills its back frame and swaps it into the middle slot; the reader swaps the middle
+ * slot out only when it holds something new. Neither side ever waits for the other, and the three
+ * frames are reused, so publishing allocates nothing.
+ */
+public final class FrameExchange {
+
+    // Set on the middle index when it holds a frame the reader has not taken yet
+    private static final int FRESH = 4;
+    private static final int INDEX = 3;
+
+    private final Frame[] frames = {new Frame(), new Frame(), new Frame()};
+    private final AtomicInteger middle = new AtomicInteger(1);
+    // Only touched by the writer and the reader respectively
+    private int back;
+    private int front = 2;
+
+    public FrameExchange(ViewData initialView) {
+        frames[front].set(0L, 0L, initialView, 0, 0L, 0L, null, 0L);
+    }
+
+    // Writer side
+    public void publish(long sequence, long tick, ViewData view, int inputCount, long oldestInputNanos,
+                        long inputOffsetNanos, int[][] field, long fieldResets) {
+        frames[back].set(sequence, tick, view, inputCount, oldestInputNanos, inputOffsetNanos, field, fieldResets);
+        back = middle.getAndSet(back | FRESH) & INDEX;
+    }
+
+    // Reader side; the newest published frame, valid until the next call
+    public Frame latest() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX;
+        }
+        return frames[front];
+    }
+}
@@ -0,0 +1,80 @@
+package com.comp2042.game.ui;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of everything drawn besides the locked cells. Nothing is copied: the arrays
+ * and list are shared with the board and with earlier snapshots, so they must be treated as
+ * read-only. Each part has a version that only changes when that part does, so views can skip
+ * redrawing whole panels, and an unchanged board hands back the very same snapshot.
+ */
+public final class ViewData {
+
+    private final int[][] brickData;
+    private final int xPosition;
+    private final int yPosition;
+    private final long pieceVersion;
+    private final List<int[][]> nextBricksData;
+    private final long nextBricksVersion;
+    private final int dropDistance;
+    private final long fieldVersion;
+    private final int[][] heldBrickData;
+    private final long heldBrickVersion;
+
+    public ViewData(int[][] brickData, int xPosition, int yPosition, long pieceVersion,
+                    List<int[][]> nextBrickData, long nextBricksVersion, int dropDistance, long fieldVersion,
+                    int[][] heldBrickData, long heldBrickVersion) {
+        this.brickData = brickData;
+        this.xPosition = xPosition;
+        this.yPosition = yPosition;
+        this.pieceVersion = pieceVersion;
+        this.nextBricksData = nextBrickData;
+        this.nextBricksVersion = nextBricksVersion;
+        this.dropDistance = dropDistance;
+        this.fieldVersion = fieldVersion;
+        this.heldBrickData = heldBrickData;
+        this.heldBrickVersion = heldBrickVersion;
+    }
+
+    public int getDropDistance() {
+        return dropDistance;
+    }
+
+    public int[][] getBrickData() {
+        return brickData;
+    }
+
+    public int getxPosition() {
+        return xPosition;
+    }
+
+    public int getyPosition() {
+        return yPosition;
+    }
+
+    // Changes when the falling brick moves, rotates or is replaced
+    public long getPieceVersion() {
+        return pieceVersion;
+    }
+
+    // Changes with the locked cells; together with the piece version it covers the ghost
+    public long getFieldVersion() {
+        return fieldVersion;
+    }
+
+    public List<int[][]> getNextBricksData() {
+        return nextBricksData;
+    }
+
+    public long getNextBricksVersion() {
+        return nextBricksVersion;
+    }
+
+    public long getHeldBrickVersion() {
+        return heldBrickVersion;
+    }
+
+    public int[][] getHeldBrickData() {
+        return heldBrickData;
+    }
+}
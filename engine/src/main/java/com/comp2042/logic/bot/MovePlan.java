@@ -0,0 +1,59 @@
+package com.comp2042.logic.bot;
+
+import com.comp2042.game.event.EventType;
+
+import java.util.Arrays;
+
+/**
+ * Inputs that take the current brick to its chosen resting place. The final drop is not
+ * included; the caller lets gravity (or a hard drop) finish the placement.
+ */
+public final class MovePlan {
+
+    private final EventType[] moves;
+    private final double score;
+    private final int x;
+    private final int y;
+    private final int rotation;
+
+    MovePlan(EventType[] moves, double score, int x, int y, int rotation) {
+        this.moves = moves;
+        this.score = score;
+        this.x = x;
+        this.y = y;
+        this.rotation = rotation;
+    }
+
+    public int getMoveCount() {
+        return moves.length;
+    }
+
+    public EventType getMove(int index) {
+        return moves[index];
+    }
+
+    public boolean usesHold() {
+        return moves.length > 0 && moves[0] == EventType.HOLD;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    @Override
+    public String toString() {
+        return "MovePlan" + Arrays.toString(moves) + " -> (" + x + ", " + y + ", r" + rotation + ") score=" + score;
+    }
+}
@@ -0,0 +1,68 @@
+package com.comp2042.logic.bot;
+
+import com.comp2042.game.control.Board;
+import com.comp2042.game.control.GameEngine;
+import com.comp2042.game.event.EventSource;
+import com.comp2042.game.event.EventType;
+import com.comp2042.game.event.InputEventListener;
+import com.comp2042.game.event.MoveEvent;
+import com.comp2042.logic.sim.Policy;
+
+// Plays the best placement found by PlacementSearch through the same input events a player sends.
+public class PlacementBot implements Policy {
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.THREAD);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.THREAD);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.THREAD);
+    private static final MoveEvent DOWN = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent HOLD = new MoveEvent(EventType.HOLD, EventSource.THREAD);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.THREAD);
+
+    private final PlacementSearch search;
+
+    public PlacementBot() {
+        this(GameEngine.BOARD_ROWS, GameEngine.BOARD_COLUMNS);
+    }
+
+    public PlacementBot(int rows, int columns) {
+        this.search = new PlacementSearch(rows, columns);
+    }
+
+    public MovePlan plan(Board board) {
+        return search.search(board);
+    }
+
+    public PlacementSearch getSearch() {
+        return search;
+    }
+
+    @Override
+    public void play(Board board, InputEventListener input) {
+        MovePlan plan = search.search(board);
+        if (plan == null) {
+            return;
+        }
+        for (int i = 0; i < plan.getMoveCount(); i++) {
+            switch (plan.getMove(i)) {
+                case LEFT:
+                    input.onLeftEvent(LEFT);
+                    break;
+                case RIGHT:
+                    input.onRightEvent(RIGHT);
+                    break;
+                case ROTATE:
+                    input.onRotateEvent(ROTATE);
+                    break;
+                case DOWN:
+                    input.onDownEvent(DOWN);
+                    break;
+                case HOLD:
+                    input.onHoldEvent(HOLD);
+                    break;
+                case HARD_DROP:
+                    input.onHardDropEvent(HARD_DROP);
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.comp2042.logic.bot;
+
+import com.comp2042.game.control.Board;
+import com.comp2042.game.control.BrickRotator;
+import com.comp2042.game.event.EventType;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.ShapeState;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Finds the best resting place for the current brick (or the hold alternative) with a
+ * breadth-first search over (x, y, rotation) using the same moves and wall kicks as the board.
+ * Placements are scored with Dellacherie's features; scores are cached in a Zobrist-keyed
+ * transposition table. One instance per game thread; nothing here is thread-safe.
+ */
+public class PlacementSearch {
+
+    // Same layout as BitBoard: column c at bit (c + GUARD), every other bit is wall.
+    private static final int GUARD = 4;
+    private static final int FULL_ROW = -1;
+    private static final int ROTATIONS = 4;
+    private static final int X_BIAS = 4;
+
+    // Spawn positions used by createNewBrick() and holdBrick()
+    private static final int SPAWN_X = 3;
+    private static final int SPAWN_Y = 1;
+    private static final int SWAP_Y = 2;
+
+    private static final double LANDING_HEIGHT = -4.500158825082766;
+    private static final double ERODED_CELLS = 3.4181268101392694;
+    private static final double ROW_TRANSITIONS = -3.2178882868487753;
+    private static final double COLUMN_TRANSITIONS = -9.348695305445199;
+    private static final double HOLES = -7.899265427351652;
+    private static final double WELLS = -3.3855972247263626;
+
+    private static final EventType[] MOVES = EventType.values();
+
+    private final int rows;
+    private final int columns;
+    private final int columnMask;
+    private final int emptyRow;
+    private final int xSlots;
+    private final int[] field;
+    private final int[] work;
+    private final int[] wellDepth;
+    private final long[] cellKeys;
+    private long fieldKey;
+
+    private final long[] visited;
+    private final int[] queue;
+    private final int[] parent;
+    private final byte[] parentMove;
+    private final TranspositionTable table;
+
+    public PlacementSearch(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.columnMask = (1 << columns) - 1;
+        this.emptyRow = ~(columnMask << GUARD);
+        this.xSlots = columns + 2 * X_BIAS;
+        field = new int[rows];
+        work = new int[rows];
+        wellDepth = new int[columns];
+
+        cellKeys = new long[rows * columns];
+        SplittableRandom random = new SplittableRandom(0x5EED_2042L);
+        for (int i = 0; i < cellKeys.length; i++) {
+            cellKeys[i] = random.nextLong();
+        }
+
+        int states = ROTATIONS * rows * xSlots;
+        visited = new long[(states + 63) >>> 6];
+        queue = new int[states];
+        parent = new int[states];
+        parentMove = new byte[states];
+        table = new TranspositionTable(16);
+    }
+
+    // Best plan for the board's current brick, considering hold if it is allowed; null if nothing fits.
+    public MovePlan search(Board board) {
+        loadField(board.getBoardMatrix());
+        MovePlan best = searchBrick(board.getCurrentBrick().getShapes(), board.getCurrentState().getRotation(),
+                board.getBrickX(), board.getBrickY(), false);
+
+        if (board.canHold()) {
+            Brick held = board.getHeldBrick();
+            List<ShapeState> alternative = held != null
+                    ? held.getShapes()
+                    : board.getNextBricks(1).get(0).getShapes();
+            int spawnY = held != null ? SWAP_Y : SPAWN_Y;
+            MovePlan holdPlan = searchBrick(alternative, 0, SPAWN_X, spawnY, true);
+            if (holdPlan != null && (best == null || holdPlan.getScore() > best.getScore())) {
+                best = holdPlan;
+            }
+        }
+        return best;
+    }
+
+    public long getTableHits() {
+        return table.getHits();
+    }
+
+    public long getTableMisses() {
+        return table.getMisses();
+    }
+
+    private void loadField(int[][] matrix) {
+        fieldKey = 0L;
+        for (int r = 0; r < rows; r++) {
+            int row = emptyRow;
+            for (int c = 0; c < columns; c++) {
+                if (matrix[r][c] != 0) {
+                    row |= 1 << (c + GUARD);
+                    fieldKey ^= cellKeys[r * columns + c];
+                }
+            }
+            field[r] = row;
+        }
+    }
+
+    private MovePlan searchBrick(List<ShapeState> shapes, int rotation, int x, int y, boolean hold) {
+        if (collides(shapes.get(rotation), x, y)) {
+            return null;
+        }
+        Arrays.fill(visited, 0L);
+        int head = 0;
+        int tail = 0;
+        int start = encode(x, y, rotation);
+        visit(start);
+        parent[start] = -1;
+        queue[tail++] = start;
+
+        double bestScore = Double.NEGATIVE_INFINITY;
+        int bestState = -1;
+        int rotationCount = shapes.size();
+        int planeSize = rows * xSlots;
+
+        while (head < tail) {
+            int state = queue[head++];
+            int rot = state / planeSize;
+            int sy = (state % planeSize) / xSlots;
+            int sx = state % xSlots - X_BIAS;
+            ShapeState shape = shapes.get(rot);
+
+            int nextRot = (rot + 1) % rotationCount;
+            ShapeState next = shapes.get(nextRot);
+            for (int k = 0; k < BrickRotator.getKickCount(); k++) {
+                int kx = sx + BrickRotator.getKick(k);
+                if (!collides(next, kx, sy)) {
+                    tail = enqueue(encode(kx, sy, nextRot), state, EventType.ROTATE, tail);
+                    break;
+                }
+            }
+            if (!collides(shape, sx - 1, sy)) {
+                tail = enqueue(encode(sx - 1, sy, rot), state, EventType.LEFT, tail);
+            }
+            if (!collides(shape, sx + 1, sy)) {
+                tail = enqueue(encode(sx + 1, sy, rot), state, EventType.RIGHT, tail);
+            }
+            if (!collides(shape, sx, sy + 1)) {
+                tail = enqueue(encode(sx, sy + 1, rot), state, EventType.DOWN, tail);
+            } else {
+                double score = evaluate(shape, sx, sy);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestState = state;
+                }
+            }
+        }
+        return bestState < 0 ? null : buildPlan(bestState, bestScore, hold);
+    }
+
+    private int enqueue(int state, int from, EventType move, int tail) {
+        if (isVisited(state)) {
+            return tail;
+        }
+        visit(state);
+        parent[state] = from;
+        parentMove[state] = (byte) move.ordinal();
+        queue[tail] = state;
+        return tail + 1;
+    }
+
+    private MovePlan buildPlan(int state, double score, boolean hold) {
+        int length = 0;
+        for (int s = state; parent[s] >= 0; s = parent[s]) {
+            length++;
+        }
+        EventType[] path = new EventType[length];
+        int index = length;
+        for (int s = state; parent[s] >= 0; s = parent[s]) {
+            path[--index] = MOVES[parentMove[s]];
+        }
+        // Gravity or a hard drop covers the final fall, so trailing soft drops are dropped
+        while (length > 0 && path[length - 1] == EventType.DOWN) {
+            length--;
+        }
+
+        int offset = hold ? 1 : 0;
+        EventType[] moves = new EventType[length + offset];
+        if (hold) {
+            moves[0] = EventType.HOLD;
+        }
+        System.arraycopy(path, 0, moves, offset, length);
+
+        int planeSize = rows * xSlots;
+        return new MovePlan(moves, score, state % xSlots - X_BIAS, (state % planeSize) / xSlots, state / planeSize);
+    }
+
+    private double evaluate(ShapeState shape, int x, int y) {
+        long cellsKey = 0L;
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            cellsKey ^= cellKeys[(y + shape.getCellRow(i)) * columns + x + shape.getCellCol(i)];
+        }
+        long key = fieldKey ^ cellsKey ^ Long.rotateLeft(cellsKey, 31);
+        if (table.contains(key)) {
+            return table.get(key);
+        }
+
+        System.arraycopy(field, 0, work, 0, rows);
+        int shift = x + GUARD;
+        int lines = 0;
+        int eroded = 0;
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            work[y + r] |= shape.getRowMask(r) << shift;
+            if (work[y + r] == FULL_ROW) {
+                lines++;
+                eroded += Integer.bitCount(shape.getRowMask(r));
+            }
+        }
+        if (lines > 0) {
+            int write = rows - 1;
+            for (int read = rows - 1; read >= 0; read--) {
+                if (work[read] != FULL_ROW) {
+                    work[write--] = work[read];
+                }
+            }
+            for (; write >= 0; write--) {
+                work[write] = emptyRow;
+            }
+        }
+
+        int top = 0;
+        while (top < rows && cells(work[top]) == 0) {
+            top++;
+        }
+        int rowTransitions = 0;
+        int columnTransitions = 0;
+        int holes = 0;
+        int wells = 0;
+        int covered = 0;
+        int previous = 0;
+        int wallMask = (1 << (columns + 1)) - 1;
+        Arrays.fill(wellDepth, 0);
+        for (int r = top; r < rows; r++) {
+            int bits = cells(work[r]);
+            // Cells shifted up one with both walls set, so neighbours can be compared with shifts
+            int walled = (bits << 1) | 1 | (1 << (columns + 1));
+            rowTransitions += Integer.bitCount((walled ^ (walled >>> 1)) & wallMask);
+            if (r > top) {
+                columnTransitions += Integer.bitCount(previous ^ bits);
+            }
+            previous = bits;
+            holes += Integer.bitCount(covered & ~bits);
+            covered |= bits;
+
+            int wellCells = ((~walled & (walled << 1) & (walled >>> 1)) >>> 1) & columnMask;
+            for (int c = 0; c < columns; c++) {
+                if ((wellCells & (1 << c)) != 0) {
+                    wellDepth[c]++;
+                    wells += wellDepth[c];
+                } else {
+                    wellDepth[c] = 0;
+                }
+            }
+        }
+        columnTransitions += Integer.bitCount(previous ^ columnMask);
+
+        double landingHeight = rows - y - (shape.getMinRow() + shape.getMaxRow()) / 2.0;
+        double score = LANDING_HEIGHT * landingHeight
+                + ERODED_CELLS * lines * eroded
+                + ROW_TRANSITIONS * rowTransitions
+                + COLUMN_TRANSITIONS * columnTransitions
+                + HOLES * holes
+                + WELLS * wells;
+        table.put(key, score);
+        return score;
+    }
+
+    private int cells(int row) {
+        return (row >>> GUARD) & columnMask;
+    }
+
+    private boolean collides(ShapeState shape, int x, int y) {
+        int shift = x + GUARD;
+        if (shift < 0 || x >= columns) {
+            return true;
+        }
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int row = y + r;
+            if (row < 0 || row >= rows || (field[row] & (shape.getRowMask(r) << shift)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int encode(int x, int y, int rotation) {
+        return (rotation * rows + y) * xSlots + x + X_BIAS;
+    }
+
+    private boolean isVisited(int state) {
+        return (visited[state >>> 6] & (1L << state)) != 0;
+    }
+
+    private void visit(int state) {
+        visited[state >>> 6] |= 1L << state;
+    }
+}
@@ -0,0 +1,55 @@
+package com.comp2042.logic.bot;
+
+// Fixed-size, always-replace cache of placement scores keyed by Zobrist hash.
+final class TranspositionTable {
+
+    private final long[] keys;
+    private final double[] values;
+    private final int mask;
+    private long hits;
+    private long misses;
+
+    TranspositionTable(int sizePowerOfTwo) {
+        keys = new long[1 << sizePowerOfTwo];
+        values = new double[1 << sizePowerOfTwo];
+        mask = keys.length - 1;
+    }
+
+    boolean contains(long key) {
+        boolean found = keys[index(key)] == nonZero(key);
+        if (found) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return found;
+    }
+
+    // Only valid straight after contains(key) returned true.
+    double get(long key) {
+        return values[index(key)];
+    }
+
+    void put(long key, double value) {
+        int index = index(key);
+        keys[index] = nonZero(key);
+        values[index] = value;
+    }
+
+    long getHits() {
+        return hits;
+    }
+
+    long getMisses() {
+        return misses;
+    }
+
+    private int index(long key) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+
+    // Zero marks an empty slot
+    private static long nonZero(long key) {
+        return key == 0 ? 1 : key;
+    }
+}
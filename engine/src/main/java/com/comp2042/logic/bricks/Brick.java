@@ -0,0 +1,17 @@
+package com.comp2042.logic.bricks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public interface Brick {
+
+    List<ShapeState> getShapes();
+
+    default List<int[][]> getShapeMatrix() {
+        List<int[][]> matrices = new ArrayList<>();
+        for (ShapeState shape : getShapes()) {
+            matrices.add(shape.toMatrix());
+        }
+        return matrices;
+    }
+}
@@ -0,0 +1,11 @@
+package com.comp2042.logic.bricks;
+
+import java.util.List;
+
+final class JBrick implements Brick {
+
+    @Override
+    public List<ShapeState> getShapes() {
+        return ShapeRegistry.J_BRICK;
+    }
+}
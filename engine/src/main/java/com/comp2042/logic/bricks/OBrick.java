@@ -0,0 +1,11 @@
+package com.comp2042.logic.bricks;
+
+import java.util.List;
+
+final class OBrick implements Brick {
+
+    @Override
+    public List<ShapeState> getShapes() {
+        return ShapeRegistry.O_BRICK;
+    }
+}
@@ -5,14 +5,27 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 
 public class RandomBrickGenerator implements BrickGenerator {
 
     private final List<Brick> brickList;
     private final Deque<Brick> nextBricks = new ArrayDeque<>();
+    private final RandomGenerator random;
 
     public RandomBrickGenerator() {
+        this(new SplittableRandom());
+    }
+
+    public RandomBrickGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    // The same source always deals the same bags; split() a SplittableGenerator to give each parallel game its own stream
+    public RandomBrickGenerator(RandomGenerator random) {
+        this.random = random;
         brickList = new ArrayList<>();
         brickList.add(new IBrick());
         brickList.add(new JBrick());
@@ -27,7 +40,7 @@ public class RandomBrickGenerator implements BrickGenerator {
 
     private void fillBag() {
         List<Brick> bag = new ArrayList<>(brickList);
-        Collections.shuffle(bag);
+        Collections.shuffle(bag, random);
         nextBricks.addAll(bag);
     }
 
@@ -0,0 +1,156 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.game.control.MatrixOperations;
+
+import java.util.Arrays;
+
+/**
+ * One rotation of a brick, built once by {@link ShapeRegistry} and shared by every game.
+ * Instances are immutable; the backing matrix is never handed out without copying, and views get a
+ * separate shared copy from {@link #getViewMatrix()}.
+ */
+public final class ShapeState {
+
+    public static final int NO_CELL = -1;
+
+    private final int id;
+    private final int rotation;
+    private final int[][] matrix;
+    private final int[][] viewMatrix;
+    private final int size;
+    private final int color;
+    private final int[] rowMasks;
+    private final int[] cellRows;
+    private final int[] cellCols;
+    private final int[] columnBottoms;
+    private final int[] columnTops;
+    private final int minRow;
+    private final int maxRow;
+    private final int minCol;
+    private final int maxCol;
+
+    ShapeState(int id, int rotation, int[][] matrix) {
+        this.id = id;
+        this.rotation = rotation;
+        this.matrix = MatrixOperations.copy(matrix);
+        this.viewMatrix = MatrixOperations.copy(matrix);
+        this.size = matrix.length;
+
+        int cells = 0;
+        int cellColor = 0;
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    cells++;
+                    cellColor = cell;
+                }
+            }
+        }
+        this.color = cellColor;
+
+        rowMasks = new int[size];
+        cellRows = new int[cells];
+        cellCols = new int[cells];
+        columnBottoms = new int[size];
+        columnTops = new int[size];
+        Arrays.fill(columnBottoms, NO_CELL);
+        Arrays.fill(columnTops, NO_CELL);
+
+        int top = size, bottom = NO_CELL, left = size, right = NO_CELL;
+        int index = 0;
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                if (matrix[r][c] == 0) {
+                    continue;
+                }
+                rowMasks[r] |= 1 << c;
+                cellRows[index] = r;
+                cellCols[index] = c;
+                index++;
+                if (columnTops[c] == NO_CELL) {
+                    columnTops[c] = r;
+                }
+                columnBottoms[c] = r;
+                top = Math.min(top, r);
+                bottom = Math.max(bottom, r);
+                left = Math.min(left, c);
+                right = Math.max(right, c);
+            }
+        }
+        minRow = top;
+        maxRow = bottom;
+        minCol = left;
+        maxCol = right;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getColor() {
+        return color;
+    }
+
+    public int getCell(int row, int col) {
+        return matrix[row][col];
+    }
+
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    public int getCellCount() {
+        return cellRows.length;
+    }
+
+    public int getCellRow(int index) {
+        return cellRows[index];
+    }
+
+    public int getCellCol(int index) {
+        return cellCols[index];
+    }
+
+    // Lowest occupied row in the given column of the shape, or NO_CELL.
+    public int getColumnBottom(int col) {
+        return columnBottoms[col];
+    }
+
+    // Highest occupied row in the given column of the shape, or NO_CELL.
+    public int getColumnTop(int col) {
+        return columnTops[col];
+    }
+
+    public int getMinRow() {
+        return minRow;
+    }
+
+    public int getMaxRow() {
+        return maxRow;
+    }
+
+    public int getMinCol() {
+        return minCol;
+    }
+
+    public int getMaxCol() {
+        return maxCol;
+    }
+
+    public int[][] toMatrix() {
+        return MatrixOperations.copy(matrix);
+    }
+
+    // Shared by every ViewData that shows this shape, so it must be treated as read-only
+    public int[][] getViewMatrix() {
+        return viewMatrix;
+    }
+}
@@ -0,0 +1,54 @@
+package com.comp2042.logic.leaderboard;
+
+import com.comp2042.game.event.GameMode;
+
+// One finished game as stored in the leaderboard log.
+public final class GameRecord {
+
+    private final GameMode mode;
+    private final int score;
+    private final int lines;
+    private final int level;
+    private final long durationMillis;
+    private final long seed;
+    private final long finishedAt;
+
+    public GameRecord(GameMode mode, int score, int lines, int level, long durationMillis, long seed, long finishedAt) {
+        this.mode = mode;
+        this.score = score;
+        this.lines = lines;
+        this.level = level;
+        this.durationMillis = durationMillis;
+        this.seed = seed;
+        this.finishedAt = finishedAt;
+    }
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Epoch millis when the game ended
+    public long getFinishedAt() {
+        return finishedAt;
+    }
+}
@@ -0,0 +1,200 @@
+package com.comp2042.logic.leaderboard;
+
+import com.comp2042.game.event.GameMode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Every finished game, kept as fixed-size records in an append-only file. The file is memory-mapped
+ * and indexed on a background thread as soon as the board is opened. Ranking a new game (a binary
+ * search per mode) and appending it happen on that same thread after the load, so no caller waits.
+ */
+public final class Leaderboard {
+
+    public static final int DEFAULT_TOP_SIZE = 10;
+
+    private static final int MAGIC = 0x43574C42; // "CWLB"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int RECORD_BYTES = 40;
+    private static final long CLOSE_TIMEOUT_SECONDS = 2;
+    private static final GameMode[] MODES = GameMode.values();
+
+    private final Path file;
+    private final ModeIndex[] indexes = new ModeIndex[MODES.length];
+    private final ExecutorService io;
+    private final Future<?> loaded;
+
+    // Only touched on the io thread
+    private long fileBytes;
+    private boolean writable = true;
+
+    public Leaderboard(Path file) {
+        this(file, DEFAULT_TOP_SIZE);
+    }
+
+    public Leaderboard(Path file, int topSize) {
+        if (topSize < 1) {
+            throw new IllegalArgumentException("Leaderboard must keep at least one top game: " + topSize);
+        }
+        this.file = file;
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = new ModeIndex(topSize);
+        }
+        io = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "leaderboard-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+        loaded = io.submit(this::load);
+    }
+
+    // Returns at once; onRanked gets the game's standing on the io thread, then the record is appended
+    public void record(GameRecord record, Consumer<Standing> onRanked) {
+        io.execute(() -> {
+            Standing standing;
+            synchronized (this) {
+                standing = indexes[record.getMode().ordinal()].add(record);
+            }
+            onRanked.accept(standing);
+            append(record);
+        });
+    }
+
+    public List<GameRecord> getTop(GameMode mode) {
+        awaitLoad();
+        synchronized (this) {
+            return indexes[mode.ordinal()].getTop();
+        }
+    }
+
+    public int getGameCount(GameMode mode) {
+        awaitLoad();
+        synchronized (this) {
+            return indexes[mode.ordinal()].getCount();
+        }
+    }
+
+    public int getPersonalBest(GameMode mode) {
+        awaitLoad();
+        synchronized (this) {
+            return indexes[mode.ordinal()].getPersonalBest();
+        }
+    }
+
+    // Finishes pending appends, waiting a couple of seconds at most
+    public void close() {
+        io.shutdown();
+        try {
+            if (!io.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("Leaderboard was not saved before exit");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitLoad() {
+        try {
+            loaded.get();
+        } catch (ExecutionException e) {
+            System.err.println("Error loading leaderboard: " + e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                return;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                writable = false;
+                System.err.println("Leaderboard file has an unknown format, new games will not be saved");
+                return;
+            }
+            long records = (size - HEADER_BYTES) / RECORD_BYTES;
+            synchronized (this) {
+                for (long i = 0; i < records; i++) {
+                    int base = (int) (HEADER_BYTES + i * RECORD_BYTES);
+                    int modeIndex = buffer.getInt(base + 36);
+                    if (modeIndex < 0 || modeIndex >= MODES.length) {
+                        continue;
+                    }
+                    ModeIndex index = indexes[modeIndex];
+                    int score = buffer.getInt(base + 24);
+                    // Only records that make the top N are turned into objects
+                    index.load(score, index.wantsRecord(score) ? readRecord(buffer, base) : null);
+                }
+                for (ModeIndex index : indexes) {
+                    index.sort();
+                }
+            }
+            // A record cut short by a crash is overwritten by the next append
+            fileBytes = HEADER_BYTES + records * RECORD_BYTES;
+        } catch (IOException e) {
+            System.err.println("Error loading leaderboard: " + e.getMessage());
+        }
+    }
+
+    private void append(GameRecord record) {
+        if (!writable) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (fileBytes == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip();
+                writeFully(channel, header, 0);
+                fileBytes = HEADER_BYTES;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES);
+            buffer.putLong(record.getFinishedAt())
+                    .putLong(record.getSeed())
+                    .putLong(record.getDurationMillis())
+                    .putInt(record.getScore())
+                    .putInt(record.getLines())
+                    .putInt(record.getLevel())
+                    .putInt(record.getMode().ordinal())
+                    .flip();
+            writeFully(channel, buffer, fileBytes);
+            fileBytes += RECORD_BYTES;
+        } catch (IOException e) {
+            System.err.println("Error saving leaderboard: " + e.getMessage());
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static GameRecord readRecord(ByteBuffer buffer, int base) {
+        return new GameRecord(MODES[buffer.getInt(base + 36)],
+                buffer.getInt(base + 24),
+                buffer.getInt(base + 28),
+                buffer.getInt(base + 32),
+                buffer.getLong(base + 16),
+                buffer.getLong(base + 8),
+                buffer.getLong(base));
+    }
+}
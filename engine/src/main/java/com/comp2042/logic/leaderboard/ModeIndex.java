@@ -0,0 +1,100 @@
+package com.comp2042.logic.leaderboard;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Every score of one mode in a sorted array for ranking, plus the full records of the top N.
+final class ModeIndex {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final GameRecord[] top;
+    private int topCount;
+    private int[] scores = new int[INITIAL_CAPACITY];
+    private int count;
+    private boolean sorted = true;
+
+    ModeIndex(int topSize) {
+        top = new GameRecord[topSize];
+    }
+
+    // Bulk load in file order; sort() must be called before anything is ranked
+    boolean wantsRecord(int score) {
+        return topCount < top.length || score > top[topCount - 1].getScore();
+    }
+
+    void load(int score, GameRecord record) {
+        ensureCapacity();
+        scores[count++] = score;
+        sorted = false;
+        if (record != null) {
+            insertTop(record);
+        }
+    }
+
+    void sort() {
+        if (!sorted) {
+            Arrays.sort(scores, 0, count);
+            sorted = true;
+        }
+    }
+
+    Standing add(GameRecord record) {
+        int score = record.getScore();
+        int position = upperBound(score);
+        ensureCapacity();
+        System.arraycopy(scores, position, scores, position + 1, count - position);
+        scores[position] = score;
+        count++;
+        insertTop(record);
+        return new Standing(count - upperBound(score) + 1, count, scores[count - 1]);
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    int getPersonalBest() {
+        return count > 0 ? scores[count - 1] : 0;
+    }
+
+    List<GameRecord> getTop() {
+        return List.of(Arrays.copyOf(top, topCount));
+    }
+
+    // Ties go after the existing entries so the earlier game keeps the higher place
+    private void insertTop(GameRecord record) {
+        int position = topCount;
+        while (position > 0 && top[position - 1].getScore() < record.getScore()) {
+            position--;
+        }
+        if (position >= top.length) {
+            return;
+        }
+        int moved = Math.min(topCount, top.length - 1) - position;
+        System.arraycopy(top, position, top, position + 1, moved);
+        top[position] = record;
+        topCount = Math.min(topCount + 1, top.length);
+    }
+
+    // First index holding a score greater than the given one
+    private int upperBound(int score) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (scores[mid] <= score) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity() {
+        if (count == scores.length) {
+            scores = Arrays.copyOf(scores, scores.length * 2);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.comp2042.logic.leaderboard;
+
+// Where a just-recorded game places among every game played in its mode.
+public final class Standing {
+
+    private final int rank;
+    private final int games;
+    private final int personalBest;
+
+    Standing(int rank, int games, int personalBest) {
+        this.rank = rank;
+        this.games = games;
+        this.personalBest = personalBest;
+    }
+
+    // 1 for the best score; games with equal scores share a rank
+    public int getRank() {
+        return rank;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getPersonalBest() {
+        return personalBest;
+    }
+}
@@ -0,0 +1,72 @@
+package com.comp2042.logic.metrics;
+
+// A histogram frozen at one moment; subtracting an earlier snapshot gives just the values recorded in between.
+public final class HistogramSnapshot {
+
+    private final String name;
+    private final long[] counts;
+    private final long count;
+    private final long total;
+    private final long max;
+
+    HistogramSnapshot(String name, long[] counts, long count, long total, long max) {
+        this.name = name;
+        this.counts = counts;
+        this.count = count;
+        this.total = total;
+        this.max = max;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public double getMean() {
+        return count > 0 ? (double) total / count : 0.0;
+    }
+
+    // For an interval from since() this is the top of its highest bucket, as the exact max is all-time
+    public long getMax() {
+        return max;
+    }
+
+    // Upper bound of the bucket holding the given percentile (0-100), capped at the max; 0 when empty
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(count * Math.min(100.0, percentile) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(Histogram.upperBoundOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    // Values recorded after the earlier snapshot of the same histogram
+    public HistogramSnapshot since(HistogramSnapshot earlier) {
+        long[] delta = new long[counts.length];
+        long deltaCount = 0;
+        int highest = -1;
+        for (int i = 0; i < counts.length; i++) {
+            delta[i] = Math.max(0L, counts[i] - earlier.counts[i]);
+            deltaCount += delta[i];
+            if (delta[i] > 0) {
+                highest = i;
+            }
+        }
+        long deltaMax = highest < 0 ? 0L : Math.min(Histogram.upperBoundOf(highest), max);
+        return new HistogramSnapshot(name, delta, deltaCount, total - earlier.total, deltaMax);
+    }
+}
@@ -0,0 +1,93 @@
+package com.comp2042.logic.metrics;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Feeds GC pauses and allocation into a registry. Pauses arrive as JMX notifications on a JVM thread;
+ * allocation is sampled by the caller (once per frame) as bytes allocated by every thread since the
+ * previous sample. Collectors that report concurrent cycles rather than pauses are left out.
+ */
+public final class JvmMetrics {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final Histogram gcPauses;
+    private final Histogram allocatedBytes;
+    private final com.sun.management.ThreadMXBean threads;
+    private final NotificationListener gcListener = this::onNotification;
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private long lastAllocated = -1L;
+
+    public JvmMetrics(Histogram gcPauses, Histogram allocatedBytes) {
+        this.gcPauses = gcPauses;
+        this.allocatedBytes = allocatedBytes;
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            threads = (com.sun.management.ThreadMXBean) bean;
+            threads.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            threads = null;
+        }
+    }
+
+    public void start() {
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            String name = collector.getName();
+            if (name.contains("Concurrent") || name.contains("Cycles")) {
+                continue;
+            }
+            if (collector instanceof NotificationEmitter) {
+                NotificationEmitter emitter = (NotificationEmitter) collector;
+                emitter.addNotificationListener(gcListener, null, null);
+                emitters.add(emitter);
+            }
+        }
+    }
+
+    public void stop() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(gcListener);
+            } catch (ListenerNotFoundException e) {
+                // already gone
+            }
+        }
+        emitters.clear();
+    }
+
+    // Records the bytes allocated since the previous call; the first call only sets the baseline
+    public void sampleAllocation() {
+        if (threads == null) {
+            return;
+        }
+        long allocated = threads.getTotalThreadAllocatedBytes();
+        if (allocated < 0) {
+            return;
+        }
+        if (lastAllocated >= 0) {
+            allocatedBytes.record(allocated - lastAllocated);
+        }
+        lastAllocated = allocated;
+    }
+
+    private void onNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        gcPauses.record(info.getGcInfo().getDuration() * NANOS_PER_MILLI);
+    }
+}
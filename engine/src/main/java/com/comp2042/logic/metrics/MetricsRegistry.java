@@ -0,0 +1,47 @@
+package com.comp2042.logic.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Named histograms for the frame pipeline. Whoever records looks its histogram up once and keeps it,
+ * so the record path never goes through the map; snapshot() can be taken at any time from any thread
+ * and written out as CSV.
+ */
+public final class MetricsRegistry {
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    // Creates the histogram on first use
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, Histogram::new);
+    }
+
+    // Sorted by name
+    public Map<String, HistogramSnapshot> snapshot() {
+        Map<String, HistogramSnapshot> snapshots = new TreeMap<>();
+        for (Histogram histogram : histograms.values()) {
+            snapshots.put(histogram.getName(), histogram.snapshot());
+        }
+        return snapshots;
+    }
+
+    // One line per histogram: name, count, mean, p50, p90, p99, p99.9, max, in the recorded unit
+    public static void writeCsv(Map<String, HistogramSnapshot> snapshots, Appendable out) throws IOException {
+        out.append("name,count,mean,p50,p90,p99,p99.9,max\n");
+        for (HistogramSnapshot snapshot : snapshots.values()) {
+            out.append(snapshot.getName())
+                    .append(',').append(String.valueOf(snapshot.getCount()))
+                    .append(',').append(String.format("%.1f", snapshot.getMean()));
+            for (double percentile : PERCENTILES) {
+                out.append(',').append(String.valueOf(snapshot.getPercentile(percentile)));
+            }
+            out.append(',').append(String.valueOf(snapshot.getMax())).append('\n');
+        }
+    }
+}
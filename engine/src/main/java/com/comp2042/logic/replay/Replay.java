@@ -0,0 +1,148 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.game.event.EventSource;
+import com.comp2042.game.event.EventType;
+import com.comp2042.game.event.GameMode;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A recorded game: the mode and brick seed it started from, how many logic ticks it ran, and every
+ * input in order. Each input is one varint of (ticks since the previous input << 4 | type << 1 | source),
+ * so inputs under 8 ticks (67ms) apart take one byte. Gravity is not stored at all; playback
+ * re-derives it from the tick count.
+ */
+public final class Replay {
+
+    private static final int MAGIC = 0x43575250; // "CWRP"
+    private static final int VERSION = 2;
+
+    static final int SOURCE_BITS = 1;
+    static final int TYPE_BITS = 3;
+    static final int DELAY_SHIFT = SOURCE_BITS + TYPE_BITS;
+
+    private final GameMode mode;
+    private final long seed;
+    private final int ticks;
+    private final byte[] events;
+    private final int eventCount;
+
+    Replay(GameMode mode, long seed, int ticks, byte[] events, int eventCount) {
+        this.mode = mode;
+        this.seed = seed;
+        this.ticks = ticks;
+        this.events = events;
+        this.eventCount = eventCount;
+    }
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    // Game ticks recorded, so playback knows where a game that had not ended stopped
+    public int getTicks() {
+        return ticks;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    // Encoded size of the input records, excluding the fixed header
+    public int getEventBytes() {
+        return events.length;
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeByte(mode.ordinal());
+        data.writeLong(seed);
+        data.writeInt(ticks);
+        data.writeInt(eventCount);
+        data.writeInt(events.length);
+        data.write(events);
+        data.flush();
+    }
+
+    public static Replay read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        int modeIndex = data.readUnsignedByte();
+        if (modeIndex >= GameMode.values().length) {
+            throw new IOException("Unknown game mode " + modeIndex);
+        }
+        long seed = data.readLong();
+        int ticks = data.readInt();
+        int eventCount = data.readInt();
+        byte[] events = new byte[data.readInt()];
+        data.readFully(events);
+        return new Replay(GameMode.values()[modeIndex], seed, ticks, events, eventCount);
+    }
+
+    // Walks the records in order without allocating; call next() before reading each one.
+    public final class Cursor {
+
+        private static final EventType[] TYPES = EventType.values();
+        private static final EventSource[] SOURCES = EventSource.values();
+
+        private int position;
+        private long tickDelta;
+        private EventType type;
+        private EventSource source;
+
+        private Cursor() {
+        }
+
+        public boolean next() {
+            if (position >= events.length) {
+                return false;
+            }
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = events[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            source = SOURCES[(int) (value & ((1 << SOURCE_BITS) - 1))];
+            type = TYPES[(int) ((value >>> SOURCE_BITS) & ((1 << TYPE_BITS) - 1))];
+            tickDelta = value >>> DELAY_SHIFT;
+            return true;
+        }
+
+        // Logic ticks since the previous input
+        public long getTickDelta() {
+            return tickDelta;
+        }
+
+        public EventType getType() {
+            return type;
+        }
+
+        public EventSource getSource() {
+            return source;
+        }
+    }
+}
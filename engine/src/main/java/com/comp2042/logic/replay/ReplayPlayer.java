@@ -0,0 +1,108 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.game.control.GameEngine;
+import com.comp2042.game.control.GameLoop;
+import com.comp2042.game.event.EventSource;
+import com.comp2042.game.event.EventType;
+import com.comp2042.game.event.GameListener;
+import com.comp2042.game.event.GameMode;
+import com.comp2042.game.event.MoveEvent;
+
+/**
+ * Starts games the way recordings expect and plays recorded inputs back through a {@link GameLoop},
+ * which adds gravity tick by tick exactly as it did live. Headless playback steps the loop as fast
+ * as the engine runs; the GUI runs it in real time at 1x-16x.
+ */
+public final class ReplayPlayer {
+
+    private static final MoveEvent[][] EVENTS = new MoveEvent[EventType.values().length][EventSource.values().length];
+
+    static {
+        for (EventType type : EventType.values()) {
+            for (EventSource source : EventSource.values()) {
+                EVENTS[type.ordinal()][source.ordinal()] = new MoveEvent(type, source);
+            }
+        }
+    }
+
+    private ReplayPlayer() {
+    }
+
+    // Every recorded game starts from a fresh engine with this seed followed by createNewGame().
+    public static GameEngine createEngine(GameMode mode, long seed, GameListener listener) {
+        GameEngine engine = new GameEngine(mode, seed);
+        engine.setListener(listener);
+        engine.createNewGame();
+        return engine;
+    }
+
+    // The recording as moves by game tick, for GameLoop.play()
+    public static GameLoop.Script script(Replay replay) {
+        return new ReplayScript(replay);
+    }
+
+    public static GameEngine play(Replay replay) {
+        HeadlessListener listener = new HeadlessListener();
+        GameEngine engine = createEngine(replay.getMode(), replay.getSeed(), listener);
+        GameLoop loop = new GameLoop(engine);
+        listener.loop = loop;
+        long nanos = 0L;
+        loop.play(script(replay), nanos);
+        while (loop.isRunning()) {
+            loop.advance(nanos += GameLoop.TICK_NANOS);
+        }
+        return engine;
+    }
+
+    private static final class ReplayScript implements GameLoop.Script {
+
+        private final Replay.Cursor cursor;
+        private final long ticks;
+        private boolean pending;
+        private long dueTick;
+
+        ReplayScript(Replay replay) {
+            cursor = replay.cursor();
+            ticks = replay.getTicks();
+            advance();
+        }
+
+        @Override
+        public MoveEvent next(long gameTick) {
+            if (!pending || dueTick > gameTick) {
+                return null;
+            }
+            MoveEvent move = EVENTS[cursor.getType().ordinal()][cursor.getSource().ordinal()];
+            advance();
+            return move;
+        }
+
+        @Override
+        public boolean isFinished(long gameTick) {
+            return !pending && gameTick >= ticks;
+        }
+
+        private void advance() {
+            pending = cursor.next();
+            if (pending) {
+                dueTick += cursor.getTickDelta();
+            }
+        }
+    }
+
+    // Does what the GUI does with level-ups and game over, so headless gravity matches the live game
+    private static final class HeadlessListener implements GameListener {
+
+        private GameLoop loop;
+
+        @Override
+        public void onLevelUp(int level) {
+            loop.setGravity(GameLoop.gravityForLevel(level));
+        }
+
+        @Override
+        public void onGameOver() {
+            loop.stop();
+        }
+    }
+}
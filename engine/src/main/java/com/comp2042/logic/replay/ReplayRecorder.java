@@ -0,0 +1,54 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.game.event.EventSource;
+import com.comp2042.game.event.EventType;
+import com.comp2042.game.event.GameMode;
+
+import java.util.Arrays;
+
+// Appends inputs to a growable byte buffer; recording is a few shifts and an array store per input.
+// Ticks are game ticks from GameLoop.getInputTick(), counted from 0 at the start of the game.
+public final class ReplayRecorder {
+
+    private static final int INITIAL_CAPACITY = 4096;
+
+    private final GameMode mode;
+    private final long seed;
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int size;
+    private int eventCount;
+    private long lastTick;
+
+    public ReplayRecorder(GameMode mode, long seed) {
+        this.mode = mode;
+        this.seed = seed;
+    }
+
+    public void record(EventType type, EventSource source, long gameTick) {
+        long tickDelta = Math.max(0L, gameTick - lastTick);
+        lastTick += tickDelta;
+
+        if (size + 10 > buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        long value = (tickDelta << Replay.DELAY_SHIFT)
+                | ((long) type.ordinal() << Replay.SOURCE_BITS)
+                | source.ordinal();
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+        eventCount++;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    // Snapshot of everything recorded up to the given game tick; recording can carry on afterwards.
+    public Replay toReplay(long gameTick) {
+        int ticks = (int) Math.min(Integer.MAX_VALUE, Math.max(gameTick, lastTick));
+        return new Replay(mode, seed, ticks, Arrays.copyOf(buffer, size), eventCount);
+    }
+}
@@ -0,0 +1,44 @@
+package com.comp2042.logic.sim;
+
+public final class GameResult {
+
+    private final long seed;
+    private final int score;
+    private final int lines;
+    private final int level;
+    private final int pieces;
+    private final boolean toppedOut;
+
+    public GameResult(long seed, int score, int lines, int level, int pieces, boolean toppedOut) {
+        this.seed = seed;
+        this.score = score;
+        this.lines = lines;
+        this.level = level;
+        this.pieces = pieces;
+        this.toppedOut = toppedOut;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getPieces() {
+        return pieces;
+    }
+
+    public boolean isToppedOut() {
+        return toppedOut;
+    }
+}
@@ -0,0 +1,13 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.game.control.Board;
+import com.comp2042.game.event.InputEventListener;
+
+/**
+ * Decides where the current brick goes. It is called once per spawned brick and steers it
+ * through {@code input} (or the board directly); the caller then drops the brick until it locks.
+ */
+public interface Policy {
+
+    void play(Board board, InputEventListener input);
+}
@@ -0,0 +1,31 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.game.control.Board;
+import com.comp2042.game.event.InputEventListener;
+
+import java.util.SplittableRandom;
+
+// Baseline policy: random rotation and column, driven straight through the board.
+public class RandomPolicy implements Policy {
+
+    private final SplittableRandom random;
+
+    public RandomPolicy(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void play(Board board, InputEventListener input) {
+        int rotations = random.nextInt(4);
+        for (int i = 0; i < rotations; i++) {
+            board.rotateLeftBrick();
+        }
+        int shift = random.nextInt(11) - 5;
+        for (int i = 0; i < Math.abs(shift); i++) {
+            boolean moved = shift < 0 ? board.moveBrickLeft() : board.moveBrickRight();
+            if (!moved) {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.comp2042.logic.sim;
+
+import java.util.Arrays;
+
+public final class SimulationReport {
+
+    private final int threads;
+    private final long elapsedNanos;
+    private final GameResult[] results;
+    private final int[] sortedScores;
+    private final long totalPieces;
+    private final long totalLines;
+    private final long checksum;
+
+    SimulationReport(int threads, long elapsedNanos, GameResult[] results) {
+        this.threads = threads;
+        this.elapsedNanos = elapsedNanos;
+        this.results = results;
+        sortedScores = new int[results.length];
+        long pieces = 0;
+        long lines = 0;
+        long hash = 1125899906842597L;
+        for (int i = 0; i < results.length; i++) {
+            GameResult result = results[i];
+            sortedScores[i] = result.getScore();
+            pieces += result.getPieces();
+            lines += result.getLines();
+            hash = 31 * hash + result.getScore();
+            hash = 31 * hash + result.getLines();
+            hash = 31 * hash + result.getPieces();
+        }
+        Arrays.sort(sortedScores);
+        totalPieces = pieces;
+        totalLines = lines;
+        checksum = hash;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getGames() {
+        return results.length;
+    }
+
+    public GameResult getResult(int index) {
+        return results[index];
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getTotalPieces() {
+        return totalPieces;
+    }
+
+    public long getTotalLines() {
+        return totalLines;
+    }
+
+    public double getPiecesPerSecond() {
+        return totalPieces * 1e9 / Math.max(1, elapsedNanos);
+    }
+
+    public double getGamesPerSecond() {
+        return results.length * 1e9 / Math.max(1, elapsedNanos);
+    }
+
+    // Same seed and policy give the same checksum no matter how many threads ran the games.
+    public long getChecksum() {
+        return checksum;
+    }
+
+    public int getMinScore() {
+        return sortedScores.length == 0 ? 0 : sortedScores[0];
+    }
+
+    public int getMaxScore() {
+        return sortedScores.length == 0 ? 0 : sortedScores[sortedScores.length - 1];
+    }
+
+    public double getMeanScore() {
+        if (sortedScores.length == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int score : sortedScores) {
+            sum += score;
+        }
+        return (double) sum / sortedScores.length;
+    }
+
+    public double getScoreStdDev() {
+        if (sortedScores.length == 0) {
+            return 0;
+        }
+        double mean = getMeanScore();
+        double sum = 0;
+        for (int score : sortedScores) {
+            sum += (score - mean) * (score - mean);
+        }
+        return Math.sqrt(sum / sortedScores.length);
+    }
+
+    public int getScorePercentile(double percentile) {
+        if (sortedScores.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedScores.length) - 1;
+        return sortedScores[Math.max(0, Math.min(sortedScores.length - 1, index))];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("threads=%d games=%d pieces=%d lines=%d time=%.3fs pieces/s=%.0f games/s=%.1f"
+                        + " score[min=%d p10=%d p50=%d p90=%d p99=%d max=%d mean=%.1f sd=%.1f] checksum=%016x",
+                threads, getGames(), totalPieces, totalLines, elapsedNanos / 1e9,
+                getPiecesPerSecond(), getGamesPerSecond(),
+                getMinScore(), getScorePercentile(10), getScorePercentile(50), getScorePercentile(90),
+                getScorePercentile(99), getMaxScore(), getMeanScore(), getScoreStdDev(), checksum);
+    }
+}
@@ -0,0 +1,155 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.game.control.Board;
+import com.comp2042.game.control.BoardType;
+import com.comp2042.game.control.GameEngine;
+import com.comp2042.game.event.EventSource;
+import com.comp2042.game.event.GameMode;
+import com.comp2042.logic.bot.PlacementBot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.LongFunction;
+
+/**
+ * Plays many headless games in parallel on a fork-join pool. Every game gets its own board,
+ * brick generator and policy seeded from the master seed and its index, so the results do
+ * not depend on how many threads ran them.
+ */
+public class SimulationRunner {
+
+    private final int games;
+    private final long seed;
+    private final int maxPieces;
+    private final LongFunction<Board> boards;
+    private final LongFunction<Policy> policies;
+
+    public SimulationRunner(int games, long seed, int maxPieces, LongFunction<Policy> policies) {
+        this(games, seed, maxPieces, GameMode.NORMAL, policies);
+    }
+
+    public SimulationRunner(int games, long seed, int maxPieces, GameMode mode, LongFunction<Policy> policies) {
+        this(games, seed, maxPieces, boards(BoardType.SIMPLE, mode), policies);
+    }
+
+    // boards builds each game's board from its seed; every board must deal from a generator seeded with it
+    public SimulationRunner(int games, long seed, int maxPieces, LongFunction<Board> boards,
+                            LongFunction<Policy> policies) {
+        if (games < 0 || maxPieces <= 0) {
+            throw new IllegalArgumentException("games must be >= 0 and maxPieces > 0");
+        }
+        this.games = games;
+        this.seed = seed;
+        this.maxPieces = maxPieces;
+        this.boards = boards;
+        this.policies = policies;
+    }
+
+    public static LongFunction<Board> boards(BoardType type, GameMode mode) {
+        return gameSeed -> type.create(GameEngine.BOARD_ROWS, GameEngine.BOARD_COLUMNS, mode, gameSeed);
+    }
+
+    public static long gameSeed(long masterSeed, int index) {
+        // SplitMix64 finaliser so neighbouring indices get unrelated seeds
+        long z = masterSeed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public GameResult playGame(int index) {
+        long gameSeed = gameSeed(seed, index);
+        Board board = boards.apply(gameSeed);
+        GameEngine engine = new GameEngine(board);
+        Policy policy = policies.apply(gameSeed);
+
+        int pieces = 0;
+        while (!engine.isGameOver() && pieces < maxPieces) {
+            policy.play(board, engine);
+            engine.hardDrop(EventSource.THREAD);
+            pieces++;
+        }
+        return new GameResult(gameSeed, engine.getScore().getScore(), engine.getScore().getLinesCleared(),
+                engine.getScore().getLevel(), pieces, engine.isGameOver());
+    }
+
+    public SimulationReport run(int threads) {
+        GameResult[] results = new GameResult[games];
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            pool.invoke(new GameRange(results, 0, games));
+            return new SimulationReport(threads, System.nanoTime() - start, results);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public List<SimulationReport> runScaling(int... threadCounts) {
+        List<SimulationReport> reports = new ArrayList<>();
+        for (int threads : threadCounts) {
+            reports.add(run(threads));
+        }
+        return reports;
+    }
+
+    private final class GameRange extends RecursiveAction {
+
+        // Tasks never leave the pool, so they are not serialized
+        private static final long serialVersionUID = 1L;
+
+        private final transient GameResult[] results;
+        private final int from;
+        private final int to;
+
+        GameRange(GameResult[] results, int from, int to) {
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to) {
+                    results[from] = playGame(from);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new GameRange(results, from, mid), new GameRange(results, mid, to));
+        }
+    }
+
+    // Usage: SimulationRunner [games] [seed] [maxPieces] [threads...]
+    // -Dsim.policy=bot plays PlacementBot instead of RandomPolicy; -Dsim.board=bits plays on BitBoard
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+        int maxPieces = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int[] threadCounts;
+        if (args.length > 3) {
+            threadCounts = new int[args.length - 3];
+            for (int i = 3; i < args.length; i++) {
+                threadCounts[i - 3] = Integer.parseInt(args[i]);
+            }
+        } else {
+            threadCounts = new int[]{1, Runtime.getRuntime().availableProcessors()};
+        }
+
+        LongFunction<Policy> policies = "bot".equals(System.getProperty("sim.policy"))
+                ? gameSeed -> new PlacementBot()
+                : RandomPolicy::new;
+        BoardType board = BoardType.parse(System.getProperty("sim.board"));
+        SimulationRunner runner = new SimulationRunner(games, seed, maxPieces, boards(board, GameMode.NORMAL), policies);
+        // Warm-up pass so the first measured thread count is not paying for JIT compilation
+        runner.run(threadCounts[0]);
+        List<SimulationReport> reports = runner.runScaling(threadCounts);
+        double baseline = reports.get(0).getPiecesPerSecond();
+        for (SimulationReport report : reports) {
+            System.out.printf("board=%s %s speedup=%.2fx%n", board, report, report.getPiecesPerSecond() / baseline);
+        }
+    }
+}
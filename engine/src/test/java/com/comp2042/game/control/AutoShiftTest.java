@@ -0,0 +1,86 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.event.EventType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AutoShiftTest {
+
+    @Test
+    void waitsForTheDasDelayThenRepeatsEveryArrTicks() {
+        AutoShift shift = new AutoShift(10, 3);
+        shift.press(EventType.LEFT);
+        // The press tick is tick 0; the key press itself moved the brick already
+        for (int tick = 0; tick < 10; tick++) {
+            assertEquals(0, shift.tick(), "tick " + tick);
+        }
+        int[] expected = {1, 0, 0, 1, 0, 0, 1, 0, 0, 1};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], shift.tick(), "tick " + (10 + i));
+        }
+        assertEquals(EventType.LEFT, shift.getActive());
+    }
+
+    @Test
+    void zeroDasRepeatsOnThePressTick() {
+        AutoShift shift = new AutoShift(0, 2);
+        shift.press(EventType.RIGHT);
+        assertEquals(1, shift.tick());
+        assertEquals(0, shift.tick());
+        assertEquals(1, shift.tick());
+    }
+
+    @Test
+    void zeroArrShiftsToTheWallOnceDasHasCharged() {
+        AutoShift shift = new AutoShift(4, 0);
+        shift.press(EventType.RIGHT);
+        for (int tick = 0; tick < 4; tick++) {
+            assertEquals(0, shift.tick());
+        }
+        assertEquals(AutoShift.TO_WALL, shift.tick());
+        assertEquals(AutoShift.TO_WALL, shift.tick());
+    }
+
+    @Test
+    void latestDirectionWinsAndReleasingItHandsBackWithAFreshDas() {
+        AutoShift shift = new AutoShift(2, 1);
+        shift.press(EventType.LEFT);
+        shift.tick();
+        shift.tick();
+        assertEquals(1, shift.tick());
+
+        shift.press(EventType.RIGHT);
+        assertEquals(EventType.RIGHT, shift.getActive());
+        assertEquals(0, shift.tick());
+
+        shift.release(EventType.RIGHT);
+        assertEquals(EventType.LEFT, shift.getActive());
+        assertEquals(0, shift.tick());
+        assertEquals(0, shift.tick());
+        assertEquals(1, shift.tick());
+
+        shift.release(EventType.LEFT);
+        assertNull(shift.getActive());
+        assertEquals(0, shift.tick());
+    }
+
+    @Test
+    void tracksTheSoftDropKeyAndResetsEverything() {
+        AutoShift shift = new AutoShift(0, 0);
+        shift.press(EventType.DOWN);
+        shift.press(EventType.LEFT);
+        assertTrue(shift.isSoftDropHeld());
+        shift.release(EventType.DOWN);
+        assertFalse(shift.isSoftDropHeld());
+
+        shift.press(EventType.DOWN);
+        shift.reset();
+        assertFalse(shift.isSoftDropHeld());
+        assertNull(shift.getActive());
+        assertEquals(0, shift.tick());
+    }
+}
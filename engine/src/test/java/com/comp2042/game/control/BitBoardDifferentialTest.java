@@ -0,0 +1,110 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.event.ClearRow;
+import com.comp2042.game.event.GameMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// BitBoard must behave exactly like SimpleBoard: same seeded bricks, same move script, same results.
+class BitBoardDifferentialTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final int GAMES = 50;
+    private static final int STEPS = 3000;
+    private static final int GARBAGE_ROWS = 8;
+
+    @Test
+    void playsEveryMoveScriptLikeSimpleBoard() {
+        int linesCleared = 0;
+        for (long seed = 0; seed < GAMES; seed++) {
+            Board simple = new SimpleBoard(ROWS, COLUMNS, GameMode.NORMAL, seed);
+            Board bits = new BitBoard(ROWS, COLUMNS, GameMode.NORMAL, seed);
+            SplittableRandom moves = new SplittableRandom(seed * 31 + 7);
+            // Rows with one gap each, so random drops clear lines now and then
+            int[][] garbage = garbage(moves);
+            simple.loadBoard(garbage);
+            bits.loadBoard(garbage);
+            simple.createNewBrick();
+            bits.createNewBrick();
+            for (int step = 0; step < STEPS; step++) {
+                String where = "seed " + seed + " step " + step;
+                boolean locked;
+                switch (moves.nextInt(10)) {
+                    case 0:
+                    case 1:
+                        assertEquals(simple.moveBrickLeft(), bits.moveBrickLeft(), where);
+                        continue;
+                    case 2:
+                    case 3:
+                        assertEquals(simple.moveBrickRight(), bits.moveBrickRight(), where);
+                        continue;
+                    case 4:
+                    case 5:
+                        assertEquals(simple.rotateLeftBrick(), bits.rotateLeftBrick(), where);
+                        continue;
+                    case 6:
+                        assertEquals(simple.holdBrick(), bits.holdBrick(), where);
+                        continue;
+                    case 7:
+                        assertEquals(simple.dropBrick(), bits.dropBrick(), where);
+                        locked = true;
+                        break;
+                    default:
+                        boolean moved = simple.moveBrickDown();
+                        assertEquals(moved, bits.moveBrickDown(), where);
+                        locked = !moved;
+                        break;
+                }
+                assertEquals(simple.getBrickX(), bits.getBrickX(), where);
+                assertEquals(simple.getBrickY(), bits.getBrickY(), where);
+                if (!locked) {
+                    continue;
+                }
+                simple.mergeBrickToBackground();
+                bits.mergeBrickToBackground();
+                ClearRow clear = simple.clearRows();
+                assertSameClear(clear, bits.clearRows(), where);
+                linesCleared += clear.getLinesRemoved();
+                assertArrayEquals(simple.getBoardMatrix(), bits.getBoardMatrix(), where);
+                boolean gameOver = simple.createNewBrick();
+                assertEquals(gameOver, bits.createNewBrick(), where);
+                if (gameOver) {
+                    simple.newGame();
+                    bits.newGame();
+                }
+                assertEquals(((SimpleBoard) simple).dropDistance(), ((BitBoard) bits).dropDistance(), where);
+            }
+        }
+        assertTrue(linesCleared > 0, "the script never cleared a line");
+    }
+
+    private static int[][] garbage(SplittableRandom random) {
+        int[][] matrix = new int[ROWS][COLUMNS];
+        for (int row = ROWS - GARBAGE_ROWS; row < ROWS; row++) {
+            int gap = random.nextInt(COLUMNS);
+            for (int col = 0; col < COLUMNS; col++) {
+                matrix[row][col] = col == gap ? 0 : 1 + random.nextInt(7);
+            }
+        }
+        return matrix;
+    }
+
+    private static void assertSameClear(ClearRow expected, ClearRow actual, String where) {
+        assertEquals(expected.getLinesRemoved(), actual.getLinesRemoved(), where);
+        assertEquals(expected.getScoreBonus(), actual.getScoreBonus(), where);
+        assertEquals(expected.hasChangedRows(), actual.hasChangedRows(), where);
+        if (expected.hasChangedRows()) {
+            assertEquals(expected.getFirstChangedRow(), actual.getFirstChangedRow(), where);
+            assertEquals(expected.getLastChangedRow(), actual.getLastChangedRow(), where);
+        }
+        for (int i = 0; i < expected.getLinesRemoved(); i++) {
+            assertEquals(expected.getClearedRow(i), actual.getClearedRow(i), where);
+        }
+    }
+}
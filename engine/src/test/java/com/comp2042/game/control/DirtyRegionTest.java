@@ -0,0 +1,98 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.event.EventSource;
+import com.comp2042.game.event.GameListener;
+import com.comp2042.game.event.GameMode;
+import com.comp2042.logic.bot.PlacementBot;
+import com.comp2042.logic.sim.RandomPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The copies GuiController hands to a render thread: each shares the clean rows of the one before,
+// and a renderer that skipped some of them still finds every row that changed since it last drew.
+class DirtyRegionTest {
+
+    private static final int GAMES = 10;
+    private static final int PIECES = 400;
+    private static final int FRAMES_SKIPPED = 3;
+
+    @Test
+    void copiesOnlyDirtyRowsAndRendererFindsEveryChange() {
+        int[] stats = new int[2];
+        for (long seed = 0; seed < GAMES; seed++) {
+            GameEngine engine = new GameEngine(GameMode.NORMAL, seed);
+            Publisher publisher = new Publisher(stats);
+            engine.setListener(publisher);
+            PlacementBot bot = new PlacementBot();
+            RandomPolicy random = new RandomPolicy(seed);
+            for (int piece = 0; piece < PIECES; piece++) {
+                if (engine.isGameOver()) {
+                    engine.createNewGame();
+                }
+                if (piece % 4 == 0) {
+                    random.play(engine.getBoard(), engine);
+                } else {
+                    bot.play(engine.getBoard(), engine);
+                }
+                engine.hardDrop(EventSource.THREAD);
+            }
+        }
+        int shared = stats[0];
+        int copied = stats[1];
+        assertTrue(copied > 0 && shared > copied * 5, "copied " + copied + " rows and shared " + shared);
+    }
+
+    private static final class Publisher implements GameListener {
+
+        private final int[] stats;
+        private int[][] published;
+        private int[][] shown;
+        private int publishes;
+
+        Publisher(int[] stats) {
+            this.stats = stats;
+        }
+
+        @Override
+        public void onBackgroundChanged(int[][] boardMatrix, DirtyRegion dirtyRegion) {
+            int[][] previous = published;
+            published = dirtyRegion.copyDirtyRows(boardMatrix, previous);
+            assertArrayEquals(boardMatrix, published);
+            for (int row = 0; row < published.length; row++) {
+                assertTrue(published[row] != boardMatrix[row], "row " + row + " is the board's own");
+                if (previous != null && !dirtyRegion.isFull() && dirtyRegion.getRowMask(row) == 0) {
+                    assertSame(previous[row], published[row], "clean row " + row);
+                    stats[0]++;
+                } else {
+                    stats[1]++;
+                }
+            }
+            // The renderer only sees every few copies, and diffs against the last one it drew
+            if (++publishes % FRAMES_SKIPPED == 0 && !dirtyRegion.isFull()) {
+                draw();
+            } else if (dirtyRegion.isFull()) {
+                shown = null;
+            }
+        }
+
+        private void draw() {
+            if (shown != null) {
+                DirtyRegion changed = DirtyRegion.changedRows(shown, published);
+                for (int row = 0; row < published.length; row++) {
+                    if (!Arrays.equals(shown[row], published[row])) {
+                        assertTrue(changed.getRowMask(row) != 0, "changed row " + row + " was not reported");
+                    }
+                    if (changed.getRowMask(row) == 0) {
+                        assertSame(shown[row], published[row], "unreported row " + row);
+                    }
+                }
+            }
+            shown = published;
+        }
+    }
+}
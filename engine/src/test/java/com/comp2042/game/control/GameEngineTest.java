@@ -0,0 +1,79 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.event.ClearRow;
+import com.comp2042.game.event.EventSource;
+import com.comp2042.game.event.EventType;
+import com.comp2042.game.event.GameMode;
+import com.comp2042.game.event.MoveEvent;
+import com.comp2042.logic.bot.PlacementBot;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameEngineTest {
+
+    private static final int GAMES = 5;
+    private static final int PIECES = 200;
+    private static final MoveEvent USER_DOWN = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent USER_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+    private static final MoveEvent THREAD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.THREAD);
+
+    // A player's hard drop scores a point per row, the same as soft-dropping the whole way
+    @Test
+    void userHardDropScoresLikeSoftDroppingToTheLock() {
+        int lines = 0;
+        for (long seed = 0; seed < GAMES; seed++) {
+            GameEngine dropped = new GameEngine(GameMode.NORMAL, seed);
+            GameEngine stepped = new GameEngine(GameMode.NORMAL, seed);
+            PlacementBot bot = new PlacementBot();
+            for (int piece = 0; piece < PIECES && !dropped.isGameOver(); piece++) {
+                String where = "seed " + seed + " piece " + piece;
+                bot.play(dropped.getBoard(), dropped);
+                bot.play(stepped.getBoard(), stepped);
+                int before = dropped.getScore().getScore();
+                int rows = dropped.getBoard().dropDistance();
+
+                ClearRow dropClear = dropped.onHardDropEvent(USER_DROP).getClearRow();
+                ClearRow stepClear;
+                int steps = 0;
+                while ((stepClear = stepped.onDownEvent(USER_DOWN).getClearRow()) == null) {
+                    steps++;
+                }
+
+                assertEquals(rows, steps, where);
+                assertEquals(dropClear.getLinesRemoved(), stepClear.getLinesRemoved(), where);
+                assertEquals(before + rows + dropClear.getScoreBonus(), dropped.getScore().getScore(), where);
+                assertEquals(stepped.getScore().getScore(), dropped.getScore().getScore(), where);
+                assertEquals(stepped.getScore().getLinesCleared(), dropped.getScore().getLinesCleared(), where);
+                assertEquals(stepped.getScore().getLevel(), dropped.getScore().getLevel(), where);
+                assertEquals(stepped.isGameOver(), dropped.isGameOver(), where);
+                assertArrayEquals(stepped.getBoard().getBoardMatrix(), dropped.getBoard().getBoardMatrix(), where);
+            }
+            lines += dropped.getScore().getLinesCleared();
+        }
+        assertTrue(lines > 0, "the games should clear lines");
+    }
+
+    // Gravity, autoplay and simulations drop with THREAD; only cleared lines score then
+    @Test
+    void threadHardDropScoresOnlyClearedLines() {
+        GameEngine engine = new GameEngine(GameMode.NORMAL, 42L);
+        assertTrue(engine.getBoard().dropDistance() > 0);
+        assertEquals(0, engine.onHardDropEvent(THREAD_DROP).getClearRow().getLinesRemoved());
+        assertEquals(0, engine.getScore().getScore());
+
+        PlacementBot bot = new PlacementBot();
+        int bonuses = 0;
+        for (int piece = 0; piece < PIECES && !engine.isGameOver(); piece++) {
+            bot.play(engine.getBoard(), engine);
+            bonuses += engine.onHardDropEvent(THREAD_DROP).getClearRow().getScoreBonus();
+            assertEquals(bonuses, engine.getScore().getScore(), "piece " + piece);
+        }
+        assertTrue(bonuses > 0, "the game should clear lines");
+        assertNull(engine.moveDown(EventSource.THREAD));
+        assertEquals(bonuses, engine.getScore().getScore());
+    }
+}
@@ -0,0 +1,81 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.event.EventType;
+import com.comp2042.game.event.GameMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Held keys through the loop, with gravity off so the brick only moves sideways
+class GameLoopTest {
+
+    private static final int DAS_MILLIS = 100;
+    private static final int DAS_TICKS = DAS_MILLIS * GameLoop.TICKS_PER_SECOND / 1000;
+
+    private GameEngine engine;
+    private GameLoop loop;
+    private long nanos;
+
+    @BeforeEach
+    void startGame() {
+        engine = new GameEngine(GameMode.NORMAL, 1L);
+        engine.createNewGame();
+        loop = new GameLoop(engine);
+        loop.setHandling(DAS_MILLIS, 0, 1.0);
+        loop.setGravity(0.0);
+        loop.start(nanos);
+    }
+
+    @Test
+    void heldKeyShiftsToTheWallAfterDasWhenArrIsZero() {
+        int startX = brickX();
+        loop.keyPressed(EventType.RIGHT, nanos);
+        ticks(1);
+        assertEquals(startX + 1, brickX());
+        ticks(DAS_TICKS - 1);
+        assertEquals(startX + 1, brickX(), "no repeat before DAS");
+        ticks(1);
+        assertTrue(brickX() > startX + 1, "shifted on the DAS tick");
+        int wallX = brickX();
+        engine.onRightEvent(null);
+        assertEquals(wallX, brickX(), "against the wall");
+    }
+
+    @Test
+    void releaseWhileStoppedIsNotLostOverAPause() {
+        int startX = brickX();
+        loop.keyPressed(EventType.RIGHT, nanos);
+        ticks(1);
+        loop.stop();
+        assertFalse(loop.keyPressed(EventType.LEFT, nanos), "presses are dropped while stopped");
+        loop.keyReleased(EventType.RIGHT, nanos);
+
+        loop.resume(nanos);
+        ticks(DAS_TICKS * 3);
+        assertEquals(startX + 1, brickX(), "the key was let go during the pause");
+    }
+
+    @Test
+    void keyStillHeldAfterAPauseKeepsShifting() {
+        int startX = brickX();
+        loop.keyPressed(EventType.RIGHT, nanos);
+        ticks(1);
+        loop.stop();
+        loop.resume(nanos);
+        ticks(DAS_TICKS * 3);
+        assertTrue(brickX() > startX + 1);
+    }
+
+    private void ticks(int count) {
+        for (int i = 0; i < count; i++) {
+            assertEquals(1, loop.advance(nanos += GameLoop.TICK_NANOS));
+        }
+    }
+
+    private int brickX() {
+        return engine.getBoard().getBrickX();
+    }
+}
@@ -0,0 +1,85 @@
+package com.comp2042.game.control;
+
+import com.comp2042.logic.bricks.ShapeRegistry;
+import com.comp2042.logic.bricks.ShapeState;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Checks the incremental height map against an intersect probe and a full rescan, on boards with
+// holes and overhangs where shapes can sit in cavities below a column's surface.
+class HeightMapTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final int BOARDS = 2_000;
+    private static final int PIECES_PER_BOARD = 12;
+
+    @Test
+    void matchesProbeAndRescanOnBoardsWithOverhangs() {
+        SplittableRandom random = new SplittableRandom(2042L);
+        int probed = 0;
+        int underOverhang = 0;
+        for (int n = 0; n < BOARDS; n++) {
+            int[][] matrix = raggedBoard(random);
+            HeightMap heightMap = new HeightMap(ROWS, COLUMNS, (row, col) -> matrix[row][col] != 0);
+            HeightMap rescanned = new HeightMap(ROWS, COLUMNS, (row, col) -> matrix[row][col] != 0);
+            heightMap.rebuild();
+
+            for (int p = 0; p < PIECES_PER_BOARD; p++) {
+                ShapeState shape = ShapeRegistry.get(random.nextInt(ShapeRegistry.size()));
+                int x = random.nextInt(COLUMNS - shape.getMaxCol() + shape.getMinCol()) - shape.getMinCol();
+                int y = random.nextInt(ROWS - shape.getMaxRow() + shape.getMinRow()) - shape.getMinRow();
+                if (MatrixOperations.intersect(matrix, shape, x, y)) {
+                    continue;
+                }
+                String where = "board " + n + " piece " + p;
+                int probe = probeDrop(matrix, shape, x, y);
+                int distance = heightMap.dropDistance(shape, x, y);
+                if (distance == -1) {
+                    underOverhang++;
+                } else {
+                    assertEquals(probe, distance, where);
+                    probed++;
+                }
+
+                for (int i = 0; i < shape.getCellCount(); i++) {
+                    matrix[y + probe + shape.getCellRow(i)][x + shape.getCellCol(i)] = shape.getColor();
+                }
+                heightMap.addPiece(shape, x, y + probe);
+                rescanned.rebuild();
+                for (int col = 0; col < COLUMNS; col++) {
+                    assertEquals(rescanned.getHeight(col), heightMap.getHeight(col), where + " height of column " + col);
+                    assertEquals(rescanned.getHoles(col), heightMap.getHoles(col), where + " holes in column " + col);
+                }
+            }
+        }
+        assertTrue(probed > BOARDS, "most shapes should start above the stack");
+        assertTrue(underOverhang > BOARDS / 10, "some shapes should start under an overhang");
+    }
+
+    private static int probeDrop(int[][] matrix, ShapeState shape, int x, int y) {
+        int distance = 0;
+        while (!MatrixOperations.intersect(matrix, shape, x, y + distance + 1)) {
+            distance++;
+        }
+        return distance;
+    }
+
+    // Columns of random height whose top cell is filled and whose cells below it are often empty
+    private static int[][] raggedBoard(SplittableRandom random) {
+        int[][] matrix = new int[ROWS][COLUMNS];
+        for (int col = 0; col < COLUMNS; col++) {
+            int height = random.nextInt(ROWS / 2);
+            for (int row = ROWS - height; row < ROWS; row++) {
+                if (row == ROWS - height || random.nextInt(5) < 3) {
+                    matrix[row][col] = 1 + random.nextInt(7);
+                }
+            }
+        }
+        return matrix;
+    }
+}
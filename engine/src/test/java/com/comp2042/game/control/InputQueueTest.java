@@ -0,0 +1,117 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.event.EventType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InputQueueTest {
+
+    private static final EventType[] TYPES = EventType.values();
+
+    @Test
+    void drainsEventsInTheOrderTheyWereOffered() {
+        InputQueue queue = new InputQueue(4);
+        List<String> offered = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            EventType type = TYPES[i % TYPES.length];
+            boolean released = i % 3 == 0;
+            assertTrue(queue.offer(type, released, 1000L + i));
+            offered.add(describe(type, released, 1000L + i));
+        }
+        List<String> drained = new ArrayList<>();
+        assertEquals(12, queue.drain(collect(drained)));
+        assertEquals(offered, drained);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void fullQueueRejectsNewEventsAndKeepsQueuedOnes() {
+        InputQueue queue = new InputQueue(2);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(EventType.LEFT, false, i));
+        }
+        assertFalse(queue.offer(EventType.RIGHT, false, 4));
+        assertFalse(queue.offer(EventType.RIGHT, true, 5));
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(4, queue.drain(collect(drained)));
+        assertEquals(List.of(describe(EventType.LEFT, false, 0), describe(EventType.LEFT, false, 1),
+                describe(EventType.LEFT, false, 2), describe(EventType.LEFT, false, 3)), drained);
+
+        // Draining frees the slots again, across the wrap-around
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(EventType.ROTATE, i % 2 == 0, 10 + i));
+        }
+        assertFalse(queue.offer(EventType.ROTATE, false, 14));
+        drained.clear();
+        assertEquals(4, queue.drain(collect(drained)));
+        assertEquals(describe(EventType.ROTATE, true, 10), drained.get(0));
+        assertEquals(describe(EventType.ROTATE, false, 13), drained.get(3));
+    }
+
+    @Test
+    void sinkCanLeaveTheRestQueued() {
+        InputQueue queue = new InputQueue(3);
+        queue.offer(EventType.LEFT, false, 1);
+        queue.offer(EventType.HARD_DROP, false, 2);
+        queue.offer(EventType.RIGHT, false, 3);
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(2, queue.drain((type, released, nanos) -> {
+            drained.add(describe(type, released, nanos));
+            return type != EventType.HARD_DROP;
+        }));
+        assertFalse(queue.isEmpty());
+        assertEquals(1, queue.drain(collect(drained)));
+        assertEquals(describe(EventType.RIGHT, false, 3), drained.get(2));
+
+        queue.offer(EventType.DOWN, true, 4);
+        queue.clear();
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.drain(collect(drained)));
+    }
+
+    @Test
+    void keepsOrderBetweenAProducerAndAConsumerThread() throws InterruptedException {
+        int events = 50_000;
+        InputQueue queue = new InputQueue(3);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < events; i++) {
+                // Yielding rather than spinning keeps this quick on a single core
+                while (!queue.offer(TYPES[i % TYPES.length], (i & 1) != 0, i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+        long[] next = {0};
+        boolean[] inOrder = {true};
+        while (next[0] < events) {
+            int drained = queue.drain((type, released, nanos) -> {
+                int i = (int) next[0]++;
+                inOrder[0] &= nanos == i && type == TYPES[i % TYPES.length] && released == ((i & 1) != 0);
+                return true;
+            });
+            if (drained == 0) {
+                Thread.yield();
+            }
+        }
+        producer.join();
+        assertTrue(inOrder[0]);
+        assertTrue(queue.isEmpty());
+    }
+
+    private static InputQueue.Sink collect(List<String> drained) {
+        return (type, released, nanos) -> drained.add(describe(type, released, nanos));
+    }
+
+    private static String describe(EventType type, boolean released, long nanos) {
+        return type + (released ? " up " : " down ") + nanos;
+    }
+}
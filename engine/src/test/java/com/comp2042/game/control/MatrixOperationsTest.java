@@ -0,0 +1,81 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.event.ClearRow;
+import com.comp2042.game.event.GameMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// clearRows() works in place on the rows the last piece locked in; it must match checkRemoving() on the whole board.
+class MatrixOperationsTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+    private static final int BOARDS = 20_000;
+
+    @Test
+    void clearRowsMatchesCheckRemoving() {
+        SplittableRandom random = new SplittableRandom(2042L);
+        int cleared = 0;
+        for (int n = 0; n < BOARDS; n++) {
+            int stack = random.nextInt(ROWS + 1);
+            int bottom = ROWS - 1 - random.nextInt(Math.max(1, stack));
+            int top = Math.max(ROWS - stack, bottom - random.nextInt(4));
+            int[][] before = stackedBoard(random, stack, top, bottom);
+            ClearRow expected = MatrixOperations.checkRemoving(before);
+
+            int[][] after = MatrixOperations.copy(before);
+            ClearRow actual = MatrixOperations.clearRows(after, top, bottom, new ClearRow(ROWS));
+
+            String where = "board " + n;
+            assertEquals(expected.getLinesRemoved(), actual.getLinesRemoved(), where);
+            assertEquals(expected.getScoreBonus(), actual.getScoreBonus(), where);
+            assertArrayEquals(expected.getNewMatrix(), after, where);
+            for (int row = 0; row < ROWS; row++) {
+                if (!Arrays.equals(before[row], after[row])) {
+                    assertTrue(row >= actual.getFirstChangedRow() && row <= actual.getLastChangedRow(),
+                            where + " row " + row + " changed outside the reported rows");
+                }
+            }
+            cleared += actual.getLinesRemoved();
+        }
+        assertTrue(cleared > BOARDS / 2, "the boards should clear lines");
+    }
+
+    @Test
+    void boardsMayNotLoadAnEmptyRowUnderAFilledOne() {
+        int[][] matrix = new int[ROWS][COLUMNS];
+        matrix[ROWS - 1][0] = 1;
+        matrix[ROWS - 3][4] = 2;
+        assertThrows(IllegalArgumentException.class, () -> MatrixOperations.checkStacked(matrix));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SimpleBoard(ROWS, COLUMNS, GameMode.NORMAL, 1L).loadBoard(matrix));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BitBoard(ROWS, COLUMNS, GameMode.NORMAL, 1L).loadBoard(matrix));
+
+        matrix[ROWS - 2][9] = 3;
+        assertDoesNotThrow(() -> MatrixOperations.checkStacked(matrix));
+    }
+
+    // The bottom stack rows each hold at least one cell and a gap, except some full ones in top..bottom
+    private static int[][] stackedBoard(SplittableRandom random, int stack, int top, int bottom) {
+        int[][] matrix = new int[ROWS][COLUMNS];
+        for (int row = ROWS - stack; row < ROWS; row++) {
+            boolean full = row >= top && row <= bottom && random.nextInt(2) == 0;
+            int gap = random.nextInt(COLUMNS);
+            for (int col = 0; col < COLUMNS; col++) {
+                if (full || col == (gap + 1) % COLUMNS || (col != gap && random.nextInt(3) != 0)) {
+                    matrix[row][col] = 1 + random.nextInt(7);
+                }
+            }
+        }
+        return matrix;
+    }
+}
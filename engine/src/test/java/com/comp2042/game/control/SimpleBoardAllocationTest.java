@@ -0,0 +1,66 @@
+package com.comp2042.game.control;
+
+import com.comp2042.game.event.GameMode;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Once warmed up, moving, rotating and measuring the drop must not allocate at all.
+class SimpleBoardAllocationTest {
+
+    private static final int MOVES = 10_000;
+    private static final int WARM_UP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 3;
+
+    @Test
+    void steadyStateMovesAllocateNothing() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long thread = Thread.currentThread().threadId();
+
+        SimpleBoard board = new SimpleBoard(25, 10, GameMode.NORMAL, 42L);
+        board.createNewBrick();
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            move(board);
+        }
+        // A stray JIT or class-loading allocation can land in one round; a real one would be in every round
+        long allocated = Long.MAX_VALUE;
+        int checksum = 0;
+        for (int i = 0; i < MEASURED_ROUNDS && allocated > 0; i++) {
+            long before = threads.getThreadAllocatedBytes(thread);
+            checksum += move(board);
+            allocated = Math.min(allocated, threads.getThreadAllocatedBytes(thread) - before);
+        }
+
+        assertEquals(0L, allocated, "bytes allocated by " + MOVES + " moves (checksum " + checksum + ")");
+    }
+
+    private static int move(SimpleBoard board) {
+        int checksum = 0;
+        for (int i = 0; i < MOVES; i++) {
+            switch (i % 5) {
+                case 0:
+                    checksum += board.moveBrickLeft() ? 1 : 0;
+                    break;
+                case 1:
+                    checksum += board.moveBrickRight() ? 1 : 0;
+                    break;
+                case 2:
+                    checksum += board.rotateLeftBrick() ? 1 : 0;
+                    break;
+                case 3:
+                    checksum += board.moveBrickDown() ? 1 : 0;
+                    break;
+                default:
+                    checksum += board.dropDistance();
+                    break;
+            }
+        }
+        return checksum;
+    }
+}
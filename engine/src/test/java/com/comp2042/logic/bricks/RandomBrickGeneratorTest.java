@@ -0,0 +1,57 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.game.control.Board;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+// A seed must reproduce a game: same bricks dealt, whatever preview depth the board peeks at.
+class RandomBrickGeneratorTest {
+
+    private static final long SEED = 2025L;
+    private static final int BRICKS = 1000;
+
+    @Test
+    void sameSeedDealsSameBricksAtEveryPreviewDepth() {
+        List<String> reference = deal(new RandomBrickGenerator(SEED), 0);
+        for (int depth = 1; depth <= Board.MAX_PREVIEW_DEPTH; depth++) {
+            assertEquals(reference, deal(new RandomBrickGenerator(SEED), depth), "preview depth " + depth);
+            assertEquals(deal(new RandomBrickGenerator(SEED), depth), deal(new RandomBrickGenerator(SEED), depth),
+                    "two generators at preview depth " + depth);
+        }
+    }
+
+    @Test
+    void previewShowsTheBricksDealtNext() {
+        RandomBrickGenerator generator = new RandomBrickGenerator(SEED);
+        for (int i = 0; i < BRICKS; i++) {
+            List<Brick> preview = generator.getNextBricks(Board.MAX_PREVIEW_DEPTH);
+            assertEquals(name(preview.get(0)), name(generator.getBrick()), "brick " + i);
+        }
+    }
+
+    @Test
+    void differentSeedsDealDifferentGames() {
+        assertNotEquals(deal(new RandomBrickGenerator(SEED), 0), deal(new RandomBrickGenerator(SEED + 1), 0));
+    }
+
+    // Peeks at the preview before every brick, as the board does, and records what was dealt
+    private static List<String> deal(BrickGenerator generator, int previewDepth) {
+        List<String> dealt = new ArrayList<>(BRICKS);
+        for (int i = 0; i < BRICKS; i++) {
+            if (previewDepth > 0) {
+                generator.getNextBricks(previewDepth);
+            }
+            dealt.add(name(generator.getBrick()));
+        }
+        return dealt;
+    }
+
+    private static String name(Brick brick) {
+        return brick.getClass().getSimpleName();
+    }
+}
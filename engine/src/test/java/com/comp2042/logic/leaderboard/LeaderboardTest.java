@@ -0,0 +1,111 @@
+package com.comp2042.logic.leaderboard;
+
+import com.comp2042.game.event.GameMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LeaderboardTest {
+
+    private static final int HEADER_BYTES = 8;
+    private static final int RECORD_BYTES = 40;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void ranksGamesAndKeepsThemAcrossReopening() throws Exception {
+        Path file = dir.resolve("leaderboard.dat");
+        Leaderboard leaderboard = new Leaderboard(file, 3);
+        assertStanding(1, 1, 300, record(leaderboard, GameMode.NORMAL, 300, 1));
+        assertStanding(2, 2, 300, record(leaderboard, GameMode.NORMAL, 100, 2));
+        // Equal scores share a rank
+        assertStanding(1, 3, 300, record(leaderboard, GameMode.NORMAL, 300, 3));
+        assertStanding(3, 4, 300, record(leaderboard, GameMode.NORMAL, 200, 4));
+        assertStanding(1, 1, 50, record(leaderboard, GameMode.ZEN, 50, 5));
+        leaderboard.close();
+        assertEquals(HEADER_BYTES + 5 * RECORD_BYTES, Files.size(file));
+
+        Leaderboard reopened = new Leaderboard(file, 3);
+        // The earlier of two equal scores keeps the higher place
+        assertEquals(List.of(1L, 3L, 4L), seeds(reopened.getTop(GameMode.NORMAL)));
+        assertEquals(4, reopened.getGameCount(GameMode.NORMAL));
+        assertEquals(300, reopened.getPersonalBest(GameMode.NORMAL));
+        assertEquals(List.of(5L), seeds(reopened.getTop(GameMode.ZEN)));
+        assertEquals(50, reopened.getPersonalBest(GameMode.ZEN));
+
+        assertStanding(1, 5, 300, record(reopened, GameMode.NORMAL, 300, 6));
+        assertStanding(1, 6, 400, record(reopened, GameMode.NORMAL, 400, 7));
+        assertStanding(7, 7, 400, record(reopened, GameMode.NORMAL, 10, 8));
+        assertEquals(List.of(7L, 1L, 3L), seeds(reopened.getTop(GameMode.NORMAL)));
+        reopened.close();
+
+        Leaderboard loaded = new Leaderboard(file, 3);
+        GameRecord best = loaded.getTop(GameMode.NORMAL).get(0);
+        loaded.close();
+        assertEquals(GameMode.NORMAL, best.getMode());
+        assertEquals(400, best.getScore());
+        assertEquals(70, best.getLines());
+        assertEquals(700L, best.getDurationMillis());
+        assertEquals(7000L, best.getFinishedAt());
+    }
+
+    @Test
+    void recordCutShortIsOverwrittenByTheNextGame() throws Exception {
+        Path file = dir.resolve("leaderboard.dat");
+        Leaderboard leaderboard = new Leaderboard(file);
+        record(leaderboard, GameMode.NORMAL, 100, 1);
+        record(leaderboard, GameMode.NORMAL, 500, 2);
+        leaderboard.close();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(HEADER_BYTES + RECORD_BYTES + 13);
+        }
+
+        Leaderboard recovered = new Leaderboard(file);
+        assertEquals(1, recovered.getGameCount(GameMode.NORMAL));
+        assertEquals(100, recovered.getPersonalBest(GameMode.NORMAL));
+        assertStanding(1, 2, 200, record(recovered, GameMode.NORMAL, 200, 3));
+        recovered.close();
+        assertEquals(HEADER_BYTES + 2 * RECORD_BYTES, Files.size(file));
+
+        Leaderboard reopened = new Leaderboard(file);
+        assertEquals(List.of(3L, 1L), seeds(reopened.getTop(GameMode.NORMAL)));
+        reopened.close();
+    }
+
+    @Test
+    void needsRoomForAtLeastOneTopGame() {
+        assertThrows(IllegalArgumentException.class, () -> new Leaderboard(dir.resolve("leaderboard.dat"), 0));
+    }
+
+    // The seed tells records apart; the other fields are derived from it
+    private static Standing record(Leaderboard leaderboard, GameMode mode, int score, long seed)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        CompletableFuture<Standing> standing = new CompletableFuture<>();
+        leaderboard.record(new GameRecord(mode, score, (int) seed * 10, 1, seed * 100, seed, seed * 1000),
+                standing::complete);
+        return standing.get(5, TimeUnit.SECONDS);
+    }
+
+    private static void assertStanding(int rank, int games, int personalBest, Standing standing) {
+        assertEquals(rank, standing.getRank(), "rank");
+        assertEquals(games, standing.getGames(), "games");
+        assertEquals(personalBest, standing.getPersonalBest(), "personal best");
+    }
+
+    private static List<Long> seeds(List<GameRecord> records) {
+        return records.stream().map(GameRecord::getSeed).toList();
+    }
+}
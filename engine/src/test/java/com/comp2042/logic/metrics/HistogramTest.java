@@ -0,0 +1,110 @@
+package com.comp2042.logic.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistogramTest {
+
+    @Test
+    void bucketBoundaries() {
+        assertEquals(0, Histogram.bucketOf(0L));
+        assertEquals(15, Histogram.bucketOf(15L));
+        assertEquals(16, Histogram.bucketOf(16L));
+        assertEquals(0L, Histogram.upperBoundOf(0));
+        assertEquals(15L, Histogram.upperBoundOf(15));
+        assertEquals(16L, Histogram.upperBoundOf(16));
+        for (int exponent = Histogram.SUB_BUCKET_BITS; exponent < Long.SIZE - 1; exponent++) {
+            long power = 1L << exponent;
+            int bucket = Histogram.bucketOf(power);
+            assertEquals((exponent - Histogram.SUB_BUCKET_BITS + 1) * Histogram.SUB_BUCKETS, bucket, "2^" + exponent);
+            assertEquals(power - 1, Histogram.upperBoundOf(bucket - 1), "2^" + exponent);
+        }
+        assertEquals(Histogram.BUCKETS - 1, Histogram.bucketOf(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, Histogram.upperBoundOf(Histogram.BUCKETS - 1));
+    }
+
+    // Each bucket's upper bound is under 1/16 (about 6%) above any value in it
+    @Test
+    void bucketsKeepValuesWithinTheStatedError() {
+        SplittableRandom random = new SplittableRandom(2042L);
+        for (int i = 0; i < 200_000; i++) {
+            long value = i < 70_000 ? i : random.nextLong(1L, Long.MAX_VALUE) >>> random.nextInt(Long.SIZE - 1);
+            int bucket = Histogram.bucketOf(value);
+            long upper = Histogram.upperBoundOf(bucket);
+            assertTrue(upper >= value, "value " + value);
+            assertTrue(bucket == 0 || Histogram.upperBoundOf(bucket - 1) < value, "value " + value);
+            assertTrue(upper - value <= value / Histogram.SUB_BUCKETS, "value " + value);
+        }
+    }
+
+    @Test
+    void percentilesOfAKnownDistribution() {
+        Histogram histogram = new Histogram("uniform");
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500_500L, snapshot.getTotal());
+        assertEquals(500.5, snapshot.getMean(), 1e-9);
+        assertEquals(1000L, snapshot.getMax());
+        assertEquals(1L, snapshot.getPercentile(0.0));
+        assertEquals(1000L, snapshot.getPercentile(100.0));
+        for (double percentile : new double[] {1, 10, 25, 50, 75, 90, 99, 99.9}) {
+            long exact = (long) Math.ceil(percentile * 10);
+            long reported = snapshot.getPercentile(percentile);
+            assertTrue(reported >= exact && reported <= exact + exact / Histogram.SUB_BUCKETS,
+                    "p" + percentile + " was " + reported + " for " + exact);
+        }
+
+        // Below 16 every value has its own bucket
+        Histogram small = new Histogram("small");
+        small.record(3L, 2);
+        small.record(7L);
+        small.record(-5L);
+        HistogramSnapshot exact = small.snapshot();
+        assertEquals(4, exact.getCount());
+        assertEquals(0L, exact.getPercentile(25.0));
+        assertEquals(3L, exact.getPercentile(50.0));
+        assertEquals(7L, exact.getPercentile(100.0));
+    }
+
+    @Test
+    void sinceKeepsOnlyTheValuesRecordedInBetween() {
+        Histogram histogram = new Histogram("frames");
+        for (long value = 0; value < 100; value++) {
+            histogram.record(value);
+        }
+        HistogramSnapshot before = histogram.snapshot();
+        for (long value = 5000; value < 5100; value++) {
+            histogram.record(value);
+        }
+        HistogramSnapshot after = histogram.snapshot();
+
+        HistogramSnapshot between = after.since(before);
+        assertEquals(100, between.getCount());
+        assertEquals(504_950L, between.getTotal());
+        assertTrue(between.getPercentile(0.0) >= 5000, "lowest was " + between.getPercentile(0.0));
+        assertEquals(5099L, between.getMax());
+        assertEquals(5099L, between.getPercentile(100.0));
+
+        // A later interval of smaller values reports the top of its highest bucket, not the all-time max
+        for (long value = 150; value <= 180; value++) {
+            histogram.record(value);
+        }
+        HistogramSnapshot later = histogram.snapshot().since(after);
+        assertEquals(31, later.getCount());
+        assertEquals(Histogram.upperBoundOf(Histogram.bucketOf(180L)), later.getMax());
+        assertTrue(later.getMax() < 5000);
+        assertTrue(later.getPercentile(0.0) >= 150 && later.getPercentile(0.0) < 160);
+
+        HistogramSnapshot nothing = after.since(after);
+        assertEquals(0, nothing.getCount());
+        assertEquals(0L, nothing.getMax());
+        assertEquals(0L, nothing.getPercentile(99.0));
+    }
+}
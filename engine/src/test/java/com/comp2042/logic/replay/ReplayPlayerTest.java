@@ -0,0 +1,180 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.game.control.GameEngine;
+import com.comp2042.game.control.GameLoop;
+import com.comp2042.game.event.DownData;
+import com.comp2042.game.event.EventType;
+import com.comp2042.game.event.GameListener;
+import com.comp2042.game.event.GameMode;
+import com.comp2042.game.event.InputEventListener;
+import com.comp2042.game.event.MoveEvent;
+import com.comp2042.game.ui.ViewData;
+import com.comp2042.logic.bot.PlacementBot;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// A game played live through a GameLoop, recorded the way GameController records it, must replay to
+// the same board and score: gravity, held keys and level-ups are re-derived from the tick count.
+class ReplayPlayerTest {
+
+    private static final int GAMES = 20;
+    private static final int MAX_TICKS = 20_000;
+    private static final EventType[] KEYS = {
+            EventType.LEFT, EventType.RIGHT, EventType.ROTATE, EventType.DOWN, EventType.HOLD
+    };
+
+    @Test
+    void replaysEveryRecordedGameToTheSameResult() throws IOException {
+        int locks = 0;
+        int levelUps = 0;
+        for (long seed = 0; seed < GAMES; seed++) {
+            Recording live = new Recording(GameMode.NORMAL, seed);
+            play(live, new SplittableRandom(seed));
+            locks += live.locks;
+            levelUps += live.engine.getScore().getLevel() - 1;
+
+            Replay replay = roundTrip(live.recorder.toReplay(live.loop.getInputTick()));
+            GameEngine replayed = ReplayPlayer.play(replay);
+
+            String where = "seed " + seed;
+            assertEquals(live.engine.getScore().getScore(), replayed.getScore().getScore(), where);
+            assertEquals(live.engine.getScore().getLinesCleared(), replayed.getScore().getLinesCleared(), where);
+            assertEquals(live.engine.getScore().getLevel(), replayed.getScore().getLevel(), where);
+            assertEquals(live.engine.isGameOver(), replayed.isGameOver(), where);
+            assertArrayEquals(live.engine.getBoard().getBoardMatrix(), replayed.getBoard().getBoardMatrix(), where);
+            assertEquals(live.engine.getBoard().getBrickX(), replayed.getBoard().getBrickX(), where);
+        }
+        assertTrue(locks > GAMES * 20, "the games should lock bricks");
+        assertTrue(levelUps > 0, "gravity should speed up during the games");
+    }
+
+    // Random presses and releases land bricks through gravity and soft drop; the bot places most bricks
+    // between ticks and hard-drops them as GUI autoplay does, so lines clear and levels go up
+    private static void play(Recording live, SplittableRandom random) {
+        GameLoop loop = live.loop;
+        PlacementBot bot = new PlacementBot();
+        long nanos = 0L;
+        loop.start(nanos);
+        for (int i = 0; i < MAX_TICKS && loop.isRunning(); i++) {
+            if (live.botTurn) {
+                live.botTurn = false;
+                bot.play(live.engine.getBoard(), live);
+                loop.hardDropOnNextTick();
+            } else if (random.nextInt(15) == 0) {
+                loop.keyPressed(KEYS[random.nextInt(KEYS.length)], nanos);
+            } else if (random.nextInt(15) == 0) {
+                loop.keyReleased(KEYS[random.nextInt(KEYS.length)], nanos);
+            }
+            loop.advance(nanos += GameLoop.TICK_NANOS);
+        }
+    }
+
+    private static Replay roundTrip(Replay replay) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.write(out);
+        return Replay.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    // Records like GameController: every move but gravity, stamped with the loop's input tick
+    private static final class Recording implements InputEventListener, GameListener {
+
+        private final GameEngine engine;
+        private final ReplayRecorder recorder;
+        private final GameLoop loop;
+        private int locks;
+        private boolean botTurn;
+
+        Recording(GameMode mode, long seed) {
+            engine = ReplayPlayer.createEngine(mode, seed, null);
+            recorder = new ReplayRecorder(mode, seed);
+            loop = new GameLoop(this);
+            loop.setHandling(100, 0, 20.0);
+            SplittableRandom turns = new SplittableRandom(~seed);
+            loop.setLockHandler(down -> {
+                locks++;
+                botTurn = turns.nextInt(4) != 0;
+            });
+            engine.setListener(this);
+        }
+
+        private void record(MoveEvent event) {
+            if (event != GameLoop.GRAVITY) {
+                recorder.record(event.getEventType(), event.getEventSource(), loop.getInputTick());
+            }
+        }
+
+        @Override
+        public DownData onDownEvent(MoveEvent event) {
+            record(event);
+            return engine.onDownEvent(event);
+        }
+
+        @Override
+        public DownData onHardDropEvent(MoveEvent event) {
+            record(event);
+            return engine.onHardDropEvent(event);
+        }
+
+        @Override
+        public ViewData onLeftEvent(MoveEvent event) {
+            record(event);
+            return engine.onLeftEvent(event);
+        }
+
+        @Override
+        public ViewData onRightEvent(MoveEvent event) {
+            record(event);
+            return engine.onRightEvent(event);
+        }
+
+        @Override
+        public ViewData onShiftEvent(MoveEvent event) {
+            int startX = engine.getBoard().getBrickX();
+            ViewData viewData = engine.onShiftEvent(event);
+            for (int i = Math.abs(viewData.getxPosition() - startX); i > 0; i--) {
+                record(event);
+            }
+            return viewData;
+        }
+
+        @Override
+        public ViewData onRotateEvent(MoveEvent event) {
+            record(event);
+            return engine.onRotateEvent(event);
+        }
+
+        @Override
+        public ViewData onHoldEvent(MoveEvent event) {
+            record(event);
+            return engine.onHoldEvent(event);
+        }
+
+        @Override
+        public void createNewGame() {
+            engine.createNewGame();
+        }
+
+        @Override
+        public ViewData getViewData() {
+            return engine.getViewData();
+        }
+
+        @Override
+        public void onLevelUp(int level) {
+            loop.setGravity(GameLoop.gravityForLevel(level));
+        }
+
+        @Override
+        public void onGameOver() {
+            loop.stop();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.game.control.BoardType;
+import com.comp2042.game.event.GameMode;
+import com.comp2042.logic.bot.PlacementBot;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SimulationRunnerTest {
+
+    private static final long SEED = 42L;
+    private static final LongFunction<Policy> RANDOM = RandomPolicy::new;
+    private static final LongFunction<Policy> BOT = gameSeed -> new PlacementBot();
+
+    @Test
+    void bitBoardPlaysEveryGameLikeSimpleBoard() {
+        assertSameGames(runner(BoardType.SIMPLE, RANDOM, 40, 1000).run(1),
+                runner(BoardType.BITS, RANDOM, 40, 1000).run(1));
+        assertSameGames(runner(BoardType.SIMPLE, BOT, 4, 300).run(1),
+                runner(BoardType.BITS, BOT, 4, 300).run(1));
+    }
+
+    // Four threads finish the games in any order, but each result must land in its own slot unchanged
+    @Test
+    void threadsPlayEveryGameLikeOneThread() {
+        SimulationRunner random = runner(BoardType.SIMPLE, RANDOM, 41, 1000);
+        assertSameGames(random.run(1), random.run(4));
+        SimulationRunner bot = runner(BoardType.SIMPLE, BOT, 5, 300);
+        assertSameGames(bot.run(1), bot.run(4));
+    }
+
+    private static SimulationRunner runner(BoardType board, LongFunction<Policy> policies, int games, int maxPieces) {
+        return new SimulationRunner(games, SEED, maxPieces, SimulationRunner.boards(board, GameMode.NORMAL), policies);
+    }
+
+    private static void assertSameGames(SimulationReport expected, SimulationReport actual) {
+        assertEquals(expected.getGames(), actual.getGames());
+        for (int i = 0; i < expected.getGames(); i++) {
+            assertEquals(describe(expected.getResult(i)), describe(actual.getResult(i)), "game " + i);
+        }
+        assertEquals(expected.getChecksum(), actual.getChecksum());
+    }
+
+    private static String describe(GameResult result) {
+        return "seed=" + result.getSeed() + " score=" + result.getScore() + " lines=" + result.getLines()
+                + " level=" + result.getLevel() + " pieces=" + result.getPieces() + " toppedOut=" + result.isToppedOut();
+    }
+}
@@ -1,30 +0,0 @@
-package com.comp2042.game.control;
-
-import com.comp2042.game.ui.NextShapeInfo;
-import com.comp2042.logic.bricks.Brick;
-
-public class BrickRotator {
-
-    Brick brick;
-    private int currentShape = 0;
-    public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
-    }
-
-    public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
-    }
-
-    public void setCurrentShape(int currentShape) {
-        this.currentShape = currentShape;
-    }
-
-    public void setBrick(Brick brick) {
-        this.brick = brick;
-        currentShape = 0;
-    }
-
-
-}
@@ -1,117 +0,0 @@
-package com.comp2042.game.control;
-
-import com.comp2042.game.event.DownData;
-import com.comp2042.game.ui.ViewData;
-import com.comp2042.game.event.ClearRow;
-import com.comp2042.game.event.EventSource;
-import com.comp2042.game.event.InputEventListener;
-import com.comp2042.game.event.MoveEvent;
-import com.comp2042.game.event.GameMode;
-
-public class GameController implements InputEventListener {
-
-    private Board board;
-    private final GuiController viewGuiController;
-    private int currentLevel = 1;
-    private static final int LINES_PER_LEVEL = 5;
-    private final GameMode gameMode;
-
-    public GameController(GuiController c, GameMode mode) {
-        this.gameMode = mode;
-        this.board = new SimpleBoard(25, 10, mode);
-        viewGuiController = c;
-        board.createNewBrick();
-        viewGuiController.setEventListener(this);
-        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData(), mode);
-        viewGuiController.bindScore(board.getScore().scoreProperty());
-        viewGuiController.bindLines(board.getScore().linesClearedProperty());
-    }
-
-    @Override
-    public ViewData getViewData() {
-        return board.getViewData();
-    }
-
-    @Override
-    public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
-        ClearRow clearRow = null;
-
-        if (!canMove) {
-            board.mergeBrickToBackground();
-            clearRow = board.clearRows();
-
-            if (clearRow.getLinesRemoved() > 0) {
-                board.getScore().add(clearRow.getScoreBonus());
-                board.getScore().addLines(clearRow.getLinesRemoved());
-
-                // Only level up in Normal mode
-                if (gameMode == GameMode.NORMAL) {
-                    checkLevelUp();
-                }
-            }
-
-            boolean collision = board.createNewBrick();
-
-            if (collision) {
-                if (gameMode == GameMode.ZEN) {
-                    board.clearBoard();
-                    board.createNewBrick();
-                    viewGuiController.refreshGameBackground(board.getBoardMatrix());
-                    viewGuiController.showZenClearNotification();
-                } else {
-                    viewGuiController.gameOver();
-                }
-            }
-
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
-
-        } else {
-            if (event.getEventSource() == EventSource.USER) {
-                board.getScore().add(1);
-            }
-        }
-        return new DownData(clearRow, board.getViewData());
-    }
-
-    private void checkLevelUp() {
-        int totalLines = board.getScore().getLinesCleared();
-        int newLevel = (totalLines / LINES_PER_LEVEL) + 1;
-
-        if (newLevel > currentLevel) {
-            currentLevel = newLevel;
-            viewGuiController.levelUp(currentLevel);
-        }
-    }
-
-    @Override
-    public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
-        return board.getViewData();
-    }
-
-    @Override
-    public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
-        return board.getViewData();
-    }
-
-    @Override
-    public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
-        return board.getViewData();
-    }
-
-    @Override
-    public ViewData onHoldEvent(MoveEvent event) {
-        board.holdBrick();
-        return board.getViewData();
-    }
-
-    @Override
-    public void createNewGame() {
-        board.newGame();
-        currentLevel = 1;
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
-    }
-}
@@ -1,8 +0,0 @@
-package com.comp2042.logic.bricks;
-
-import java.util.List;
-
-public interface Brick {
-
-    List<int[][]> getShapeMatrix();
-}